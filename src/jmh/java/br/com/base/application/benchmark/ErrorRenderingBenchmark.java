@@ -0,0 +1,84 @@
+package br.com.base.application.benchmark;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.controller.CustomerController;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.handler.ExceptionHandlerController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+/**
+ * Error responses from the thrown exception to the written body, as {@link ExceptionHandlerController} renders them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRenderingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ExceptionHandlerController handler;
+    private Validator validator;
+    private SpringValidatorAdapter springValidator;
+    private MethodParameter createParameter;
+    private CreateCustomerPayload invalidPayload;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        objectMapper = new JacksonConfig().objectMapper();
+        final var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        handler = new ExceptionHandlerController(messageSource, objectMapper);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        springValidator = new SpringValidatorAdapter(validator);
+        createParameter = new MethodParameter(CustomerController.class.getMethod("create", CreateCustomerPayload.class), 0);
+        invalidPayload = new CreateCustomerPayload();
+    }
+
+    @Benchmark
+    public byte[] customerNotFound() {
+        try {
+            throw new CustomerNotFoundException();
+        } catch (CustomerNotFoundException exception) {
+            return handler.handleCustomerNotFoundException(exception).getBody();
+        }
+    }
+
+    @Benchmark
+    public byte[] constraintViolation() throws IOException {
+        final var exception = new ConstraintViolationException(validator.validate(invalidPayload));
+        return objectMapper.writeValueAsBytes(handler.handleConstraintViolationException(exception));
+    }
+
+    @Benchmark
+    public byte[] methodArgumentNotValid() throws IOException {
+        final var bindingResult = new BeanPropertyBindingResult(invalidPayload, "createCustomerPayload");
+        springValidator.validate(invalidPayload, bindingResult);
+        final var exception = new MethodArgumentNotValidException(createParameter, bindingResult);
+        return objectMapper.writeValueAsBytes(handler.handleMethodArgumentNotValidException(exception));
+    }
+}
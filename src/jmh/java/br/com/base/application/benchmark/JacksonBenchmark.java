@@ -0,0 +1,130 @@
+package br.com.base.application.benchmark;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.ErrorResponse;
+import br.com.base.application.domain.response.RawCustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Serialization and deserialization done by the {@link ObjectMapper} of {@link JacksonConfig} on every request, with
+ * the hand-written codecs of {@link br.com.base.application.configuration.CustomerCodecModule} and without them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"true", "false"})
+    private boolean specializedCodecs;
+    private ObjectMapper objectMapper;
+    private CustomerResponse customerResponse;
+    private RawCustomerResponse rawCustomerResponse;
+    private Page<CustomerResponse> page;
+    private Page<RawCustomerResponse> rawPage;
+    private byte[] createPayload;
+    private byte[] updatePayload;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setup() {
+        objectMapper = new JacksonConfig(specializedCodecs).objectMapper();
+        final var customers = new ArrayList<CustomerResponse>();
+        final var rawCustomers = new ArrayList<RawCustomerResponse>();
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            final var customer = Customer.builder()
+                    .id(new ObjectId())
+                    .name("Customer " + index)
+                    .creationDate(LocalDateTime.now())
+                    .lastModifiedDate(LocalDateTime.now())
+                    .build();
+            customers.add(new CustomerResponse(customer));
+            rawCustomers.add(new RawCustomerResponse(new RawBsonDocument(
+                    new Document("_id", customer.getId()).append("name", customer.getName()), new DocumentCodec())));
+        }
+        customerResponse = customers.get(0);
+        rawCustomerResponse = rawCustomers.get(0);
+        page = page(customers);
+        rawPage = page(rawCustomers);
+        createPayload = "{\"name\":\"Customer\"}".getBytes(StandardCharsets.UTF_8);
+        updatePayload = "{\"name\":\"Renamed customer\"}".getBytes(StandardCharsets.UTF_8);
+        errorResponse = ErrorResponse.as("Cliente n\u00E3o encontrado").code("404");
+    }
+
+    @Benchmark
+    public ObjectMapper createObjectMapper() {
+        return new JacksonConfig(specializedCodecs).objectMapper();
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(customerResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeRawCustomerResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(rawCustomerResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeRawPage() throws IOException {
+        return objectMapper.writeValueAsBytes(rawPage);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public CreateCustomerPayload deserializeCreatePayload() throws IOException {
+        return objectMapper.readValue(createPayload, CreateCustomerPayload.class);
+    }
+
+    @Benchmark
+    public UpdateCustomerPayload deserializeUpdatePayload() throws IOException {
+        return objectMapper.readValue(updatePayload, UpdateCustomerPayload.class);
+    }
+
+    private static <T> Page<T> page(List<T> content) {
+        return new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE, Sort.Direction.DESC, "id"), 10_000_000);
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.base.application.benchmark;
+
+import br.com.base.application.configuration.MongoConfig;
+import br.com.base.application.domain.Customer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * The {@link MongoConfig} date converters, looked up the way Spring Data does, and the entity mapping they take part
+ * in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MongoMappingBenchmark {
+
+    private DefaultConversionService conversionService;
+    private MappingMongoConverter converter;
+    private Date date;
+    private OffsetDateTime offsetDateTime;
+    private Customer customer;
+    private Document document;
+
+    @Setup
+    public void setup() {
+        final var conversions = new MongoConfig(new StandardEnvironment(), null, null).customConversions();
+        conversionService = new DefaultConversionService();
+        conversions.registerConvertersIn(conversionService);
+
+        final var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        date = new Date();
+        offsetDateTime = OffsetDateTime.now(ZoneOffset.UTC);
+        customer = Customer.builder()
+                .id(new ObjectId())
+                .name("Customer")
+                .searchName("customer")
+                .creationDate(offsetDateTime.toLocalDateTime())
+                .lastModifiedDate(offsetDateTime.toLocalDateTime())
+                .build();
+        document = new Document();
+        converter.write(customer, document);
+    }
+
+    @Benchmark
+    public OffsetDateTime dateToOffsetDateTime() {
+        return conversionService.convert(date, OffsetDateTime.class);
+    }
+
+    @Benchmark
+    public Date offsetDateTimeToDate() {
+        return conversionService.convert(offsetDateTime, Date.class);
+    }
+
+    @Benchmark
+    public Customer readCustomer() {
+        return converter.read(Customer.class, document);
+    }
+
+    @Benchmark
+    public Document writeCustomer() {
+        final var written = new Document();
+        converter.write(customer, written);
+        return written;
+    }
+}
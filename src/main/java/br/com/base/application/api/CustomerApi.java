@@ -5,26 +5,42 @@ import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
 import br.com.base.application.domain.payload.CreateCustomerPayload;
 import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
 import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.RawCustomerResponse;
 import br.com.base.application.domain.response.ErrorResponse;
 import br.com.base.application.domain.search.CustomerSearchParams;
 import br.com.base.application.swagger.resource.ApiPageable;
 import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.io.InputStream;
+import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import springfox.documentation.annotations.ApiIgnore;
 
 @Api(tags = "Customer Api")
 public interface CustomerApi {
 
+    String NDJSON_VALUE = "application/x-ndjson";
+    String CSV_VALUE = "text/csv";
+
     @ApiOperation(value = "Create new Customer")
     @ApiResponses(value = {
             @ApiResponse(code = 201, message = "Created"),
@@ -35,26 +51,48 @@ public interface CustomerApi {
             @ApiResponse(code = 500, message = "Internal Server Error")})
     CustomerResponse create(@ApiParam(required = true) @Valid CreateCustomerPayload payload);
 
-    @ApiOperation(value = "Update customer")
+    @ApiOperation(value = "Create a batch of Customers")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Batch processed, see per-item results", response = BatchCreateResponse.class),
+            @ApiResponse(code = 400, message = "Invalid batch size or null item"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 403, message = "Forbidden"),
+            @ApiResponse(code = 500, message = "Internal Server Error")})
+    BatchCreateResponse createAll(@ApiParam(required = true) @Size(max = 1000, message = "{Customer.batch.size}")
+            List<@NotNull(message = "{Customer.batch.item.notNull}") CreateCustomerPayload> payloads);
+
+    @ApiOperation(value = "Update customer", notes = "The response carries the new ETag of the customer. With If-Match, "
+            + "the update only applies while the customer is still at the ETag sent.")
     @ApiResponses(value = {
             @ApiResponse(code = 202, message = "Accepted"),
             @ApiResponse(code = 400, message = "Invalid id value or payload value(s)"),
             @ApiResponse(code = 401, message = "Unauthorized"),
             @ApiResponse(code = 403, message = "Forbidden"),
             @ApiResponse(code = 404, message = "Customer not found"),
+            @ApiResponse(code = 409, message = "Another customer already has this name"),
+            @ApiResponse(code = 412, message = "Customer modified since the ETag sent in If-Match"),
             @ApiResponse(code = 500, message = "Internal Server Error")})
-    CustomerResponse update(@ApiParam(value = "Customer hexadecimal id", required = true) ObjectId id,
+    ResponseEntity<CustomerResponse> update(@ApiParam(value = "Customer hexadecimal id", required = true) ObjectId id,
+            @ApiParam(value = "ETag of the customer the update is based on") String ifMatch,
             @ApiParam(required = true) @Valid UpdateCustomerPayload payload);
 
-    @ApiOperation(value = "Find Customer by id")
+    @ApiOperation(value = "Find Customer by id", response = CustomerResponse.class, notes = "The response carries the "
+            + "ETag and Last-Modified of the customer. A request whose If-None-Match or If-Modified-Since still matches "
+            + "them is answered 304 without a body.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Ok", response = CustomerResponse.class),
+            @ApiResponse(code = 304, message = "Customer not modified since the validators sent"),
             @ApiResponse(code = 400, message = "Invalid id value"),
             @ApiResponse(code = 401, message = "Unauthorized"),
             @ApiResponse(code = 403, message = "Forbidden"),
             @ApiResponse(code = 404, message = "Customer not found"),
             @ApiResponse(code = 500, message = "Internal Server Error")})
-    CustomerResponse findById(@ApiParam(value = "Customer hexadecimal id", required = true) ObjectId id);
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "If-None-Match", dataType = "string", paramType = "header",
+                    value = "ETag of the customer already held by the client"),
+            @ApiImplicitParam(name = "If-Modified-Since", dataType = "string", paramType = "header",
+                    value = "Last-Modified of the customer already held by the client")})
+    ResponseEntity<byte[]> findById(@ApiParam(value = "Customer hexadecimal id", required = true) ObjectId id);
 
     @ApiOperation(value = "Delete Customer by id")
     @ApiResponses(value = {
@@ -73,5 +111,66 @@ public interface CustomerApi {
             @ApiResponse(code = 400, message = "Invalid parameter value was sent", response = ErrorResponse.class, responseContainer = "List"),
             @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
     @ApiPageable
-    Page<CustomerResponse> findAll(@ApiIgnore @PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable, CustomerSearchParams search);
+    Page<RawCustomerResponse> findAll(@ApiIgnore @PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable, CustomerSearchParams search);
+
+    @ApiOperation(value = "Finds all Customers without counting them", produces = APPLICATION_JSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Slice of Customers returned with success", response = CustomerResponse.class),
+            @ApiResponse(code = 401, message = "Unauthorized", response = ErrorResponse.class),
+            @ApiResponse(code = 400, message = "Invalid parameter value was sent", response = ErrorResponse.class, responseContainer = "List"),
+            @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
+    @ApiPageable
+    @ApiImplicitParam(name = "mode", dataType = "string", paramType = "query", required = true, allowableValues = "slice",
+            value = "Selects a slice, which only tells whether a next page exists.")
+    Slice<CustomerResponse> findSlice(@ApiIgnore @PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            CustomerSearchParams search);
+
+    @ApiOperation(value = "Finds all Customers with an estimated total", produces = APPLICATION_JSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "List of Customers returned with success", response = CustomerResponse.class),
+            @ApiResponse(code = 401, message = "Unauthorized", response = ErrorResponse.class),
+            @ApiResponse(code = 400, message = "Invalid parameter value was sent", response = ErrorResponse.class, responseContainer = "List"),
+            @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
+    @ApiPageable
+    @ApiImplicitParam(name = "mode", dataType = "string", paramType = "query", required = true, allowableValues = "estimated",
+            value = "Selects a page whose total comes from collection metadata or a recently cached count.")
+    Page<CustomerResponse> findAllEstimated(@ApiIgnore @PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            CustomerSearchParams search);
+
+    @ApiOperation(value = "Finds all Customers using cursor pagination", produces = APPLICATION_JSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Page of Customers returned with success", response = CursorPage.class),
+            @ApiResponse(code = 401, message = "Unauthorized", response = ErrorResponse.class),
+            @ApiResponse(code = 400, message = "Invalid cursor, sort or parameter value was sent", response = ErrorResponse.class),
+            @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "mode", dataType = "string", paramType = "query", required = true, allowableValues = "cursor",
+                    value = "Selects cursor pagination."),
+            @ApiImplicitParam(name = "size", dataType = "int", paramType = "query", value = "Number of records per page.", example = "10"),
+            @ApiImplicitParam(name = "sort", dataType = "string", paramType = "query",
+                    value = "Sorting criteria of the first page in the format: property(,asc|desc). "
+                            + "Supported properties are id, name and creationDate. Ignored when a cursor is sent.")})
+    CursorPage<CustomerResponse> findAllByCursor(@ApiIgnore @PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            @ApiParam(value = "Cursor returned as next by the previous page, absent on the first page") String cursor,
+            CustomerSearchParams search);
+
+    @ApiOperation(value = "Export all Customers as newline-delimited JSON", produces = NDJSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Customers streamed one JSON object per line"),
+            @ApiResponse(code = 401, message = "Unauthorized", response = ErrorResponse.class),
+            @ApiResponse(code = 400, message = "Invalid parameter value was sent", response = ErrorResponse.class, responseContainer = "List"),
+            @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
+    ResponseEntity<StreamingResponseBody> export(CustomerSearchParams search);
+
+    @ApiOperation(value = "Import Customers from a newline-delimited JSON or CSV upload", consumes = NDJSON_VALUE + ", " + CSV_VALUE,
+            produces = NDJSON_VALUE, notes = "The upload is read and written batch by batch. The report is streamed while the "
+            + "upload is read, so clients must read the response while uploading: one line per rejected record, with its "
+            + "line number as index, and one progress line per batch, the last one completed.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Import report streamed one JSON object per line"),
+            @ApiResponse(code = 401, message = "Unauthorized", response = ErrorResponse.class),
+            @ApiResponse(code = 415, message = "Upload is neither newline-delimited JSON nor CSV"),
+            @ApiResponse(code = 500, message = "An unexpected error occurred", response = ErrorResponse.class)})
+    ResponseEntity<StreamingResponseBody> importCustomers(@ApiIgnore MediaType contentType,
+            @ApiParam(value = "Customers to create, one record per line", required = true) InputStream upload);
 }
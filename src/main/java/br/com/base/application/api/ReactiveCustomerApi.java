@@ -0,0 +1,50 @@
+package br.com.base.application.api;
+
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@link CustomerApi}, served by WebFlux when the {@code reactive} profile is active. Swagger only
+ * documents the servlet stack, see {@link CustomerApi} for the operations and their responses.
+ */
+public interface ReactiveCustomerApi {
+
+    Mono<CustomerResponse> create(@Valid CreateCustomerPayload payload);
+
+    Mono<BatchCreateResponse> createAll(@Size(max = 1000, message = "{Customer.batch.size}")
+            List<@NotNull(message = "{Customer.batch.item.notNull}") CreateCustomerPayload> payloads);
+
+    Mono<ResponseEntity<CustomerResponse>> update(ObjectId id, String ifMatch, @Valid UpdateCustomerPayload payload);
+
+    Mono<ResponseEntity<CustomerResponse>> findById(ObjectId id);
+
+    Mono<Void> delete(ObjectId id);
+
+    Mono<Page<CustomerResponse>> findAll(@PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            CustomerSearchParams search);
+
+    Mono<Slice<CustomerResponse>> findSlice(@PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            CustomerSearchParams search);
+
+    Mono<Page<CustomerResponse>> findAllEstimated(@PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            CustomerSearchParams search);
+
+    Mono<CursorPage<CustomerResponse>> findAllByCursor(@PageableDefault(direction = Sort.Direction.DESC, sort = "id") Pageable pageable,
+            String cursor, CustomerSearchParams search);
+}
@@ -0,0 +1,76 @@
+package br.com.base.application.cache;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.domain.response.CustomerJson;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.function.Function;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded read-through cache of customers by id, held already serialized so hits skip mapping and serialization.
+ * <p>
+ * Loads run inside the cache's atomic compute for the key, and {@link #evict(ObjectId)} waits for an in-flight load of
+ * the same key before removing it. Evicting after a write has reached Mongo therefore guarantees that no value read
+ * before the write survives in the cache. Writes of other nodes are evicted by {@link CustomerInvalidationBus}, which
+ * suspends the cache while it can not see them: lookups then neither read nor fill it.
+ */
+@Component
+public class CustomerCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "customers";
+
+    private final boolean enabled;
+    private final Cache<ObjectId, CustomerJson> cache;
+    private volatile boolean suspended;
+
+    public CustomerCache(CustomerCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CustomerJson> get(ObjectId id, Function<ObjectId, Optional<CustomerJson>> loader) {
+        if (!enabled || suspended) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evict(ObjectId id) {
+        cache.invalidate(id);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Serves every lookup from the loader until {@link #resume()}, keeping the cached customers.
+     */
+    public void suspend() {
+        suspended = true;
+    }
+
+    public void resume() {
+        suspended = false;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
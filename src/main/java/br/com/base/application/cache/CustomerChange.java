@@ -0,0 +1,20 @@
+package br.com.base.application.cache;
+
+import lombok.Value;
+import org.bson.types.ObjectId;
+
+/**
+ * A committed change of the {@code customers} collection, as read from its change stream.
+ */
+@Value
+public class CustomerChange {
+
+    /**
+     * Customer updated, replaced or deleted, or {@code null} when the whole collection was dropped or renamed.
+     */
+    ObjectId id;
+
+    public boolean affectsAll() {
+        return id == null;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.base.application.cache;
+
+import org.bson.BsonDocument;
+
+/**
+ * Source of the changes {@link CustomerInvalidationBus} applies to the local cache. Backed by the Mongo change stream
+ * of the collection; tests plug in an in-process one.
+ */
+public interface CustomerChangeTransport {
+
+    /**
+     * Opens the stream and delivers its changes, in commit order, to the listener on the calling thread until
+     * {@link #close()} is called.
+     *
+     * @param resumeAfter position to resume from, or {@code null} to start from the current one.
+     * @throws UnsupportedOperationException when the server can never provide the stream.
+     * @throws RuntimeException when the stream fails, or can not be resumed from {@code resumeAfter}.
+     */
+    void listen(BsonDocument resumeAfter, Listener listener);
+
+    /**
+     * Makes a running {@link #listen} return, and any later one return at once. Safe to call from any thread.
+     */
+    void close();
+
+    interface Listener {
+
+        /**
+         * The stream is open: every change committed from now on, or after the position it resumed from, is
+         * delivered.
+         */
+        void opened(boolean resumed);
+
+        void changed(CustomerChange change);
+
+        /**
+         * Position the stream reached, reported after each read whether or not it returned a change.
+         */
+        void advanced(BsonDocument resumeToken);
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.base.application.cache;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts from the local {@link CustomerCache} every customer changed by any node, as soon as the change is committed,
+ * so a node never serves a customer another node updated or deleted for longer than the change takes to reach it.
+ * <p>
+ * Changes are evicted rather than reloaded: most of them are never read again before expiring. Changes are read on a
+ * dedicated thread. Whenever the stream is not open, from startup until it first opens and from a failure until it
+ * opens again, the cache is suspended, since changes made meanwhile may never be seen. A stream resumed from the last
+ * position reached delivers those changes, so the cache is kept; otherwise it is cleared once the new stream is open.
+ * A server that can not provide the stream at all, a standalone one, stops the bus and leaves the cache on.
+ */
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(prefix = "customer.cache.invalidation", name = "enabled", havingValue = "true")
+@Slf4j
+public class CustomerInvalidationBus implements ApplicationRunner, DisposableBean,
+        CustomerChangeTransport.Listener {
+
+    private static final String THREAD_NAME = "customer-cache-invalidation";
+
+    private final CustomerCache cache;
+    private final CustomerChangeTransport transport;
+    private final CustomerCacheProperties properties;
+    private final Thread thread = new Thread(this::listen, THREAD_NAME);
+    private volatile boolean running = true;
+    private BsonDocument resumeToken;
+    private boolean opened;
+    private boolean startOver;
+
+    public CustomerInvalidationBus(CustomerCache cache, CustomerChangeTransport transport,
+            CustomerCacheProperties properties) {
+        this.cache = cache;
+        this.transport = transport;
+        this.properties = properties;
+        thread.setDaemon(true);
+        cache.suspend();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            thread.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        transport.close();
+        thread.interrupt();
+        thread.join(properties.getInvalidation().getMaxAwaitTime().multipliedBy(2).toMillis());
+    }
+
+    void listen() {
+        while (running) {
+            opened = false;
+            try {
+                transport.listen(resumeToken, this);
+                return;
+            } catch (UnsupportedOperationException exception) {
+                log.error("Customer cache invalidation - Stopped, other nodes' changes are seen on expiry only",
+                        exception);
+                cache.resume();
+                return;
+            } catch (RuntimeException exception) {
+                if (!running) {
+                    return;
+                }
+                cache.suspend();
+                recover(exception);
+            }
+            if (!pause()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void opened(boolean resumed) {
+        opened = true;
+        if (!resumed) {
+            cache.clear();
+        }
+        cache.resume();
+    }
+
+    @Override
+    public void changed(CustomerChange change) {
+        if (change.affectsAll()) {
+            cache.suspend();
+            cache.clear();
+            startOver = true;
+        } else {
+            cache.evict(change.getId());
+        }
+    }
+
+    @Override
+    public void advanced(BsonDocument resumeToken) {
+        if (!startOver) {
+            this.resumeToken = resumeToken;
+        }
+    }
+
+    /**
+     * A stream that failed once open is resumed from the last position reached. One that failed to open from that
+     * position, or ended after the collection was dropped, is opened again from the current one.
+     */
+    private void recover(RuntimeException exception) {
+        if (opened && !startOver && resumeToken != null) {
+            log.warn("Customer cache invalidation - Stream failed, resuming: {}", exception.getMessage());
+            return;
+        }
+        log.warn("Customer cache invalidation - Stream failed, starting over", exception);
+        resumeToken = null;
+        startOver = false;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getInvalidation().getRetryInterval().toMillis());
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
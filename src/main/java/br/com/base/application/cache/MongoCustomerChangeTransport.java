@@ -0,0 +1,91 @@
+package br.com.base.application.cache;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.domain.Customer;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tails the change stream of the {@code customers} collection. Inserts are left out on the server, since missing
+ * customers are never cached, and only the key of the changed document is sent. The position reported after each
+ * read is the cursor's, which keeps advancing while inserts alone are committed, so it does not age out of the oplog.
+ * <p>
+ * The stream ends after the collection is dropped or renamed; that invalidation is reported as a failure, after the
+ * drop or rename itself was delivered, so the stream is opened again.
+ */
+@Component
+@Profile("!in-memory")
+public class MongoCustomerChangeTransport implements CustomerChangeTransport {
+
+    /**
+     * Code of the error change streams fail with on a standalone server.
+     */
+    private static final int REPLICA_SET_REQUIRED = 40573;
+    private static final String DOCUMENT_KEY = "documentKey";
+    private static final String OPERATION_TYPE = "operationType";
+    private static final List<Bson> PIPELINE = List.of(
+            Aggregates.match(Filters.nin(OPERATION_TYPE, "insert")),
+            Aggregates.project(Projections.include(OPERATION_TYPE, DOCUMENT_KEY)));
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerCacheProperties properties;
+    private volatile boolean closed;
+
+    public MongoCustomerChangeTransport(MongoTemplate mongoTemplate, CustomerCacheProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void listen(BsonDocument resumeAfter, Listener listener) {
+        final var stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Customer.class))
+                .watch(PIPELINE)
+                .maxAwaitTime(properties.getInvalidation().getMaxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+        if (resumeAfter != null) {
+            stream.resumeAfter(resumeAfter);
+        }
+        try (final var cursor = stream.cursor()) {
+            listener.opened(resumeAfter != null);
+            while (!closed) {
+                final var event = cursor.tryNext();
+                if (event != null && event.getOperationType() == OperationType.INVALIDATE) {
+                    throw new IllegalStateException("Change stream invalidated");
+                }
+                if (event != null) {
+                    listener.changed(toChange(event));
+                }
+                final var position = cursor.getResumeToken();
+                if (position != null) {
+                    listener.advanced(position);
+                }
+            }
+        } catch (MongoCommandException exception) {
+            if (exception.getErrorCode() == REPLICA_SET_REQUIRED) {
+                throw new UnsupportedOperationException("Change streams need a replica set", exception);
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private static CustomerChange toChange(ChangeStreamDocument<Document> event) {
+        final var key = event.getDocumentKey();
+        return new CustomerChange(key == null || !key.isObjectId("_id") ? null : key.getObjectId("_id").getValue());
+    }
+}
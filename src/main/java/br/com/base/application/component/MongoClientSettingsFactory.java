@@ -0,0 +1,113 @@
+package br.com.base.application.component;
+
+import br.com.base.application.configuration.properties.MongoClientProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties.Compressor;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.AsynchronousSocketChannelStreamFactoryFactory;
+import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SocketStreamFactory;
+import com.mongodb.connection.SslSettings;
+import com.mongodb.connection.StreamFactoryFactory;
+import com.mongodb.connection.TlsChannelStreamFactoryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings shared by the blocking and reactive Mongo clients: the connection string, the pool, timeout and compression
+ * settings of {@link MongoClientProperties}, plus command, connection pool and wire metrics.
+ */
+@Component
+public class MongoClientSettingsFactory {
+
+    private final Environment env;
+    private final MongoClientProperties properties;
+    private final MeterRegistry registry;
+    private final MongoCommandMetrics commandMetrics;
+    private final MongoPoolMetrics poolMetrics;
+    private final MongoWireMetrics wireMetrics;
+
+    public MongoClientSettingsFactory(Environment env, MongoClientProperties properties, MeterRegistry registry,
+            MongoCommandMetrics commandMetrics, MongoPoolMetrics poolMetrics, MongoWireMetrics wireMetrics) {
+        this.env = env;
+        this.properties = properties;
+        this.registry = registry;
+        this.commandMetrics = commandMetrics;
+        this.poolMetrics = poolMetrics;
+        this.wireMetrics = wireMetrics;
+    }
+
+    /**
+     * Settings of the blocking client, over the driver's socket streams.
+     */
+    public MongoClientSettings create() {
+        return create(ssl -> SocketStreamFactory::new);
+    }
+
+    /**
+     * Settings of the reactive client, over the driver's asynchronous socket channel streams, or its TLS channel
+     * streams when the connection string enables TLS, since asynchronous socket channels have no TLS support.
+     */
+    public MongoClientSettings createReactive() {
+        return create(ssl -> ssl.isEnabled() ? new TlsChannelStreamFactoryFactory()
+                : AsynchronousSocketChannelStreamFactoryFactory.builder().build());
+    }
+
+    private MongoClientSettings create(Function<SslSettings, StreamFactoryFactory> transport) {
+        final var builder = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(env.getProperty("spring.data.mongodb.uri")))
+                .applyToConnectionPoolSettings(this::configurePool)
+                .applyToSocketSettings(this::configureSocket)
+                .applyToClusterSettings(this::configureCluster)
+                .addCommandListener(commandMetrics);
+        builder.streamFactoryFactory(wireMetrics.wrap(transport.apply(builder.build().getSslSettings())));
+        if (!properties.getCompressors().isEmpty()) {
+            builder.compressorList(properties.getCompressors().stream()
+                    .map(Compressor::create)
+                    .collect(Collectors.toList()));
+        }
+        return builder.build();
+    }
+
+    private void configurePool(ConnectionPoolSettings.Builder pool) {
+        final var settings = properties.getPool();
+        ifSet(settings.getMinSize(), pool::minSize);
+        ifSet(settings.getMaxSize(), pool::maxSize);
+        ifSet(settings.getMaxWaitTime(), time -> pool.maxWaitTime(time.toMillis(), TimeUnit.MILLISECONDS));
+        ifSet(settings.getMaxConnectionIdleTime(),
+                time -> pool.maxConnectionIdleTime(time.toMillis(), TimeUnit.MILLISECONDS));
+        ifSet(settings.getMaxConnectionLifeTime(),
+                time -> pool.maxConnectionLifeTime(time.toMillis(), TimeUnit.MILLISECONDS));
+        pool.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(registry))
+                .addConnectionPoolListener(poolMetrics);
+    }
+
+    private void configureSocket(SocketSettings.Builder socket) {
+        ifSet(properties.getConnectTimeout(), time -> socket.connectTimeout(millis(time), TimeUnit.MILLISECONDS));
+        ifSet(properties.getReadTimeout(), time -> socket.readTimeout(millis(time), TimeUnit.MILLISECONDS));
+    }
+
+    private void configureCluster(ClusterSettings.Builder cluster) {
+        ifSet(properties.getServerSelectionTimeout(),
+                time -> cluster.serverSelectionTimeout(time.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private static int millis(Duration time) {
+        return Math.toIntExact(time.toMillis());
+    }
+
+    private static <T> void ifSet(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
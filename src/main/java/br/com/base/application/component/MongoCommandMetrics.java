@@ -0,0 +1,70 @@
+package br.com.base.application.component;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every command sent by the Mongo clients, tagged by command, collection and outcome. Unlike the Micrometer
+ * listener, it keeps the collection, which only the started event carries.
+ */
+@Component
+public class MongoCommandMetrics implements CommandListener {
+
+    static final String METRIC = "mongodb.driver.commands";
+    private static final String NO_COLLECTION = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Integer, String> collections = new ConcurrentHashMap<>();
+
+    public MongoCommandMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        collections.put(event.getRequestId(), collection(event.getCommandName(), event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event, "SUCCESS", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event, "FAILED", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void record(CommandEvent event, String status, long elapsed) {
+        final var collection = collections.remove(event.getRequestId());
+        Timer.builder(METRIC)
+                .description("Time taken by Mongo commands")
+                .tag("command", event.getCommandName())
+                .tag("collection", collection == null ? NO_COLLECTION : collection)
+                .tag("status", status)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Collection commands name their collection as the value of the command, except getMore which names it apart.
+     */
+    private static String collection(String commandName, BsonDocument command) {
+        final var value = command.get(commandName);
+        if (value != null && value.isString()) {
+            return value.asString().getValue();
+        }
+        final var collection = command.get("collection");
+        return collection != null && collection.isString() ? collection.asString().getValue() : NO_COLLECTION;
+    }
+}
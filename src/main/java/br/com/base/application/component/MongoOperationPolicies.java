@@ -0,0 +1,101 @@
+package br.com.base.application.component;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import br.com.base.application.configuration.properties.MongoClientProperties.OperationPolicy;
+import br.com.base.application.domain.Customer;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read preference and write concern of each customer operation, parsed once from {@link MongoClientProperties}.
+ * <p>
+ * The repositories apply them to the collection of the operation, the reactive ones through
+ * {@link ReactiveMongoOperationPolicies}. Single inserts go through the template, which asks this resolver for their
+ * write concern.
+ * <p>
+ * Lookups by id fill the customer cache, which is only evicted once, right after a write. A lagging secondary could
+ * serve the document as it was before the write and have it cached until it expires, so they may only read a secondary
+ * when the cache is off.
+ */
+@Component
+public class MongoOperationPolicies implements WriteConcernResolver {
+
+    private final Map<Operation, ReadPreference> readPreferences = new EnumMap<>(Operation.class);
+    private final Map<Operation, WriteConcern> writeConcerns = new EnumMap<>(Operation.class);
+
+    public MongoOperationPolicies(MongoClientProperties properties, CustomerCacheProperties cacheProperties) {
+        properties.getOperations().forEach((operation, policy) -> {
+            if (policy.getReadPreference() != null) {
+                readPreferences.put(operation, readPreference(policy));
+            }
+            if (policy.getWriteConcern() != null) {
+                writeConcerns.put(operation, writeConcern(policy));
+            }
+        });
+        final var findById = readPreferences.get(Operation.FIND_BY_ID);
+        if (cacheProperties.isEnabled() && findById != null && !ReadPreference.primary().equals(findById)) {
+            throw new IllegalArgumentException("Lookups by id fill the customer cache and must read the primary: "
+                    + findById.getName());
+        }
+    }
+
+    public <T> MongoCollection<T> apply(Operation operation, MongoCollection<T> collection) {
+        final var readPreference = readPreference(operation);
+        final var writeConcern = writeConcern(operation);
+        final var read = readPreference == null ? collection : collection.withReadPreference(readPreference);
+        return writeConcern == null ? read : read.withWriteConcern(writeConcern);
+    }
+
+    /**
+     * @return the read preference of the operation, {@code null} when it keeps the connection string one.
+     */
+    public ReadPreference readPreference(Operation operation) {
+        return readPreferences.get(operation);
+    }
+
+    /**
+     * @return the write concern of the operation, {@code null} when it keeps the connection string one.
+     */
+    public WriteConcern writeConcern(Operation operation) {
+        return writeConcerns.get(operation);
+    }
+
+    /**
+     * Single customer inserts are the create operation.
+     */
+    @Override
+    public WriteConcern resolve(MongoAction action) {
+        if (action.getMongoActionOperation() == MongoActionOperation.INSERT
+                && Customer.class.equals(action.getEntityType())) {
+            return writeConcerns.getOrDefault(Operation.CREATE, action.getDefaultWriteConcern());
+        }
+        return action.getDefaultWriteConcern();
+    }
+
+    private static ReadPreference readPreference(OperationPolicy policy) {
+        if (policy.getMaxStaleness() == null) {
+            return ReadPreference.valueOf(policy.getReadPreference());
+        }
+        return ReadPreference.valueOf(policy.getReadPreference(), List.of(), policy.getMaxStaleness().toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static WriteConcern writeConcern(OperationPolicy policy) {
+        final var writeConcern = WriteConcern.valueOf(policy.getWriteConcern());
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown write concern: " + policy.getWriteConcern());
+        }
+        return writeConcern;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.base.application.component;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pool saturation metrics next to the Micrometer pool gauges: the configured maximum size, to compare with
+ * {@code mongodb.driver.pool.checkedout}, and the check outs that gave up waiting for a connection.
+ */
+@Component
+public class MongoPoolMetrics implements ConnectionPoolListener {
+
+    static final String MAX_SIZE = "mongodb.driver.pool.maxsize";
+    static final String CHECKOUT_FAILED = "mongodb.driver.pool.checkout.failed";
+
+    private final MeterRegistry registry;
+    private final Map<ServerId, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    public MongoPoolMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        final var maxSize = event.getSettings().getMaxSize();
+        final var address = address(event.getServerId());
+        meters.put(event.getServerId(), List.of(
+                Gauge.builder(MAX_SIZE, () -> maxSize)
+                        .description("Maximum number of connections in the pool")
+                        .tag("server.address", address)
+                        .register(registry),
+                Counter.builder(CHECKOUT_FAILED)
+                        .description("Connection check outs that failed, mostly on the pool wait time")
+                        .tag("server.address", address)
+                        .register(registry)));
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        Counter.builder(CHECKOUT_FAILED)
+                .tag("server.address", address(event.getServerId()))
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        final var closed = meters.remove(event.getServerId());
+        if (closed != null) {
+            closed.forEach(registry::remove);
+        }
+    }
+
+    private static String address(ServerId serverId) {
+        return serverId.getAddress().toString();
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.base.application.component;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.AsyncCompletionHandler;
+import com.mongodb.connection.Stream;
+import com.mongodb.connection.StreamFactoryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import org.bson.ByteBuf;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the bytes the Mongo clients send and receive per server, after wire compression, so the effect of the
+ * configured compressors can be read from the metrics.
+ */
+@Component
+public class MongoWireMetrics {
+
+    static final String SENT = "mongodb.driver.bytes.sent";
+    static final String RECEIVED = "mongodb.driver.bytes.received";
+
+    private final MeterRegistry registry;
+
+    public MongoWireMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Wraps the streams created by the given transport with byte counters.
+     */
+    public StreamFactoryFactory wrap(StreamFactoryFactory transport) {
+        return (socketSettings, sslSettings) -> {
+            final var streams = transport.create(socketSettings, sslSettings);
+            return address -> new CountingStream(streams.create(address), counter(SENT, address),
+                    counter(RECEIVED, address));
+        };
+    }
+
+    private Counter counter(String name, ServerAddress address) {
+        return Counter.builder(name)
+                .description("Bytes exchanged with Mongo servers")
+                .baseUnit("bytes")
+                .tag("server.address", address.toString())
+                .register(registry);
+    }
+
+    private static long remaining(List<ByteBuf> buffers) {
+        long bytes = 0;
+        for (final var buffer : buffers) {
+            bytes += buffer.remaining();
+        }
+        return bytes;
+    }
+
+    private static final class CountingStream implements Stream {
+
+        private final Stream delegate;
+        private final Counter sent;
+        private final Counter received;
+
+        private CountingStream(Stream delegate, Counter sent, Counter received) {
+            this.delegate = delegate;
+            this.sent = sent;
+            this.received = received;
+        }
+
+        @Override
+        public void open() throws IOException {
+            delegate.open();
+        }
+
+        @Override
+        public void openAsync(AsyncCompletionHandler<Void> handler) {
+            delegate.openAsync(handler);
+        }
+
+        @Override
+        public void write(List<ByteBuf> buffers) throws IOException {
+            final var bytes = remaining(buffers);
+            delegate.write(buffers);
+            sent.increment(bytes);
+        }
+
+        @Override
+        public ByteBuf read(int numBytes) throws IOException {
+            final var buffer = delegate.read(numBytes);
+            received.increment(numBytes);
+            return buffer;
+        }
+
+        @Override
+        public void writeAsync(List<ByteBuf> buffers, AsyncCompletionHandler<Void> handler) {
+            final var bytes = remaining(buffers);
+            delegate.writeAsync(buffers, new AsyncCompletionHandler<>() {
+                @Override
+                public void completed(Void result) {
+                    sent.increment(bytes);
+                    handler.completed(result);
+                }
+
+                @Override
+                public void failed(Throwable t) {
+                    handler.failed(t);
+                }
+            });
+        }
+
+        @Override
+        public void readAsync(int numBytes, AsyncCompletionHandler<ByteBuf> handler) {
+            delegate.readAsync(numBytes, new AsyncCompletionHandler<>() {
+                @Override
+                public void completed(ByteBuf result) {
+                    received.increment(numBytes);
+                    handler.completed(result);
+                }
+
+                @Override
+                public void failed(Throwable t) {
+                    handler.failed(t);
+                }
+            });
+        }
+
+        @Override
+        public ServerAddress getAddress() {
+            return delegate.getAddress();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return delegate.isClosed();
+        }
+
+        @Override
+        public ByteBuf getBuffer(int size) {
+            return delegate.getBuffer(size);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.base.application.component;
+
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MongoOperationPolicies} of each customer operation, applied to the collections of the reactive driver.
+ */
+@Component
+public class ReactiveMongoOperationPolicies {
+
+    private final MongoOperationPolicies policies;
+
+    public ReactiveMongoOperationPolicies(MongoOperationPolicies policies) {
+        this.policies = policies;
+    }
+
+    public <T> MongoCollection<T> apply(Operation operation, MongoCollection<T> collection) {
+        final var readPreference = policies.readPreference(operation);
+        final var writeConcern = policies.writeConcern(operation);
+        final var read = readPreference == null ? collection : collection.withReadPreference(readPreference);
+        return writeConcern == null ? read : read.withWriteConcern(writeConcern);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.base.application.component;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import br.com.base.application.configuration.properties.MigrationProperties;
+import br.com.base.application.configuration.properties.SearchProperties;
+import br.com.base.application.migration.MigrationLedger;
+import br.com.base.application.repository.CustomerRepository;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the search name of the existing customers without holding up startup. Only the node holding the search name
+ * lock of the {@link MigrationLedger} runs it; the lock expires after the migration lock TTL, and a node that takes it
+ * over only rewrites customers still without a search name.
+ */
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(prefix = "customer.search", name = "backfill", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SearchNameBackfill implements ApplicationRunner {
+
+    private final CustomerRepository repository;
+    private final SearchProperties properties;
+    private final MigrationLedger ledger;
+    private final MigrationProperties migrationProperties;
+    private final Executor executor;
+
+    public SearchNameBackfill(CustomerRepository repository, SearchProperties properties, MigrationLedger ledger,
+            MigrationProperties migrationProperties, @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.repository = repository;
+        this.properties = properties;
+        this.ledger = ledger;
+        this.migrationProperties = migrationProperties;
+        this.executor = executor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executor.execute(() -> {
+            try {
+                backfill(MigrationLedger.newOwner());
+            } catch (RuntimeException exception) {
+                log.error("Search name backfill - Failed", exception);
+            }
+        });
+    }
+
+    void backfill(String owner) {
+        if (!ledger.lock(MigrationLedger.SEARCH_NAMES, owner, migrationProperties.getLockTtl())) {
+            log.info("Search name backfill - Skipped, locked by another node");
+            return;
+        }
+        try {
+            final var updated = repository.backfillSearchNames(properties.getBackfillBatchSize());
+            log.info("Search name backfill - Updated: {}", kv("Updated", updated));
+        } finally {
+            ledger.unlock(MigrationLedger.SEARCH_NAMES, owner);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.base.application.configuration;
+
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Hand-written codecs of the bodies every request reads or writes, used instead of the bean serializers and
+ * deserializers Jackson builds by reflection: fields are written and read in one pass, with pre-encoded names and no
+ * property accessors. They produce and accept the same JSON as the reflective ones under {@link JacksonConfig}: empty
+ * values are left out and unknown fields are ignored.
+ */
+public class CustomerCodecModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString ERROR_CODE = new SerializedString("errorCode");
+    private static final SerializedString ERROR_DESCRIPTION = new SerializedString("errorDescription");
+
+    public CustomerCodecModule() {
+        super(CustomerCodecModule.class.getSimpleName());
+        addSerializer(CustomerResponse.class, new CustomerResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+        addDeserializer(CreateCustomerPayload.class, new NamePayloadDeserializer<>(CreateCustomerPayload.class,
+                CreateCustomerPayload::new, CreateCustomerPayload::setName));
+        addDeserializer(UpdateCustomerPayload.class, new NamePayloadDeserializer<>(UpdateCustomerPayload.class,
+                UpdateCustomerPayload::new, UpdateCustomerPayload::setName));
+    }
+
+    private static void writeNonEmpty(JsonGenerator generator, SerializedString field, String value)
+            throws IOException {
+        if (value != null && !value.isEmpty()) {
+            generator.writeFieldName(field);
+            generator.writeString(value);
+        }
+    }
+
+    static final class CustomerResponseSerializer extends StdSerializer<CustomerResponse> {
+
+        CustomerResponseSerializer() {
+            super(CustomerResponse.class);
+        }
+
+        @Override
+        public void serialize(CustomerResponse customer, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(customer);
+            writeNonEmpty(generator, ID, customer.getId());
+            writeNonEmpty(generator, NAME, customer.getName());
+            generator.writeEndObject();
+        }
+    }
+
+    static final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse error, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(error);
+            writeNonEmpty(generator, ERROR, error.getError());
+            writeNonEmpty(generator, ERROR_CODE, error.getErrorCode());
+            writeNonEmpty(generator, ERROR_DESCRIPTION, error.getErrorDescription());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Payloads whose only property is the customer name.
+     */
+    static final class NamePayloadDeserializer<T> extends StdDeserializer<T> {
+
+        private final transient Supplier<T> factory;
+        private final transient BiConsumer<T, String> nameSetter;
+
+        NamePayloadDeserializer(Class<T> type, Supplier<T> factory, BiConsumer<T, String> nameSetter) {
+            super(type);
+            this.factory = factory;
+            this.nameSetter = nameSetter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (T) context.handleUnexpectedToken(handledType(), parser);
+            }
+            final var payload = factory.get();
+            for (var field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                final var token = parser.nextToken();
+                if (!NAME.getValue().equals(field)) {
+                    parser.skipChildren();
+                } else if (token == JsonToken.VALUE_NULL) {
+                    nameSetter.accept(payload, null);
+                } else {
+                    nameSetter.accept(payload, StringDeserializer.instance.deserialize(parser, context));
+                }
+            }
+            return payload;
+        }
+    }
+}
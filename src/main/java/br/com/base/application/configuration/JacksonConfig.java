@@ -10,18 +10,38 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import net.logstash.logback.decorate.JsonFactoryDecorator;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class JacksonConfig implements JsonFactoryDecorator {
 
+    private final boolean specializedCodecs;
+
+    public JacksonConfig() {
+        this(true);
+    }
+
+    /**
+     * @param specializedCodecs whether the request and response bodies use the hand-written codecs of
+     *                          {@link CustomerCodecModule} instead of the reflective bean serializers.
+     */
+    @Autowired
+    public JacksonConfig(@Value("${customer.json.specialized-codecs:true}") boolean specializedCodecs) {
+        this.specializedCodecs = specializedCodecs;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         var objectMapper = new ObjectMapper();
         var module = new SimpleModule();
         module.addSerializer(ObjectId.class, new ToStringSerializer());
         objectMapper.registerModules(new JavaTimeModule(), module, objectIdModule());
+        if (specializedCodecs) {
+            objectMapper.registerModule(new CustomerCodecModule());
+        }
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.setDefaultPropertyInclusion(Include.NON_EMPTY);
@@ -1,6 +1,7 @@
 package br.com.base.application.configuration;
 
-import com.mongodb.ConnectionString;
+import br.com.base.application.component.MongoClientSettingsFactory;
+import br.com.base.application.component.MongoOperationPolicies;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import java.time.OffsetDateTime;
@@ -11,24 +12,37 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+/**
+ * Left out by the {@code in-memory} profile, which runs the application without Mongo.
+ */
 @Configuration
+@Profile("!in-memory")
 @EnableMongoRepositories("br.com.base.application.repository")
 @EnableMongoAuditing(dateTimeProviderRef = "offsetDateTimeProvider")
 @Slf4j
 public class MongoConfig extends AbstractMongoClientConfiguration {
 
     private Environment env;
+    private MongoClientSettingsFactory settingsFactory;
+    private MongoOperationPolicies operationPolicies;
 
     @Autowired
-    public MongoConfig(Environment env) {
+    public MongoConfig(Environment env, MongoClientSettingsFactory settingsFactory,
+            MongoOperationPolicies operationPolicies) {
         this.env = env;
+        this.settingsFactory = settingsFactory;
+        this.operationPolicies = operationPolicies;
     }
 
     @Override
@@ -38,7 +52,14 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Override
     public MongoClient mongoClient() {
-        return MongoClients.create(new ConnectionString(env.getProperty("spring.data.mongodb.uri")));
+        return MongoClients.create(settingsFactory.create());
+    }
+
+    @Override
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+        final var template = super.mongoTemplate(databaseFactory, converter);
+        template.setWriteConcernResolver(operationPolicies);
+        return template;
     }
 
     @Override
@@ -49,9 +70,12 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
         return new MongoCustomConversions(converters);
     }
 
+    /**
+     * Indexes are built by the versioned migrations of {@code IndexMigrationRunner}, off the startup path.
+     */
     @Override
     public boolean autoIndexCreation() {
-        return true;
+        return false;
     }
 
     class DateToOffsetDateTimeConverter implements Converter<Date, OffsetDateTime> {
@@ -0,0 +1,39 @@
+package br.com.base.application.configuration;
+
+import br.com.base.application.component.MongoClientSettingsFactory;
+import br.com.base.application.component.MongoOperationPolicies;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Reactive Mongo access, only built when the application runs on WebFlux. It reuses the converter of
+ * {@link MongoConfig}, so both stacks map and audit customers the same way.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableReactiveMongoRepositories("br.com.base.application.repository")
+public class ReactiveMongoConfig {
+
+    @Bean(destroyMethod = "close")
+    public MongoClient reactiveMongoClient(MongoClientSettingsFactory settingsFactory) {
+        return MongoClients.create(settingsFactory.createReactive());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient, Environment env,
+            MappingMongoConverter converter, MongoOperationPolicies operationPolicies) {
+        final var template = new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient,
+                env.getProperty("spring.data.mongodb.database")), converter);
+        template.setWriteConcernResolver(operationPolicies);
+        return template;
+    }
+}
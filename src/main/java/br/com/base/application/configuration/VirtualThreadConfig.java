@@ -0,0 +1,68 @@
+package br.com.base.application.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+/**
+ * Runs every Tomcat request, and the application task executor, on its own virtual thread instead of a bounded pool
+ * of platform threads, so requests waiting on Mongo no longer use up {@code server.tomcat.threads.max}. Enabled by
+ * {@code customer.execution.virtual-threads} and requires a Java 21 runtime; the bytecode stays on Java 11 because
+ * Spring 5.2 cannot read newer class files, so the virtual thread API is reached reflectively.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "customer.execution", name = "virtual-threads", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    private static final String THREAD_NAME_PREFIX = "customer-virtual-";
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("Running requests on virtual threads - Runtime: {}", Runtime.version());
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("customer.execution.virtual-threads requires Java 21 or newer, running on "
+                    + Runtime.version());
+        }
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var named = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            final var factory = (ThreadFactory) builderType.getMethod("factory").invoke(named);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Unable to create the virtual thread executor", exception);
+        }
+    }
+}
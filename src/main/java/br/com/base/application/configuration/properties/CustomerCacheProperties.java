@@ -0,0 +1,48 @@
+package br.com.base.application.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.cache")
+public class CustomerCacheProperties {
+
+    /**
+     * Whether customer lookups by id are served from the in-process cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of customers kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a cached customer is served before being read again from Mongo.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class Invalidation {
+
+        /**
+         * Whether cached customers are evicted as soon as any node changes them, by tailing the change stream of the
+         * collection. Change streams need a replica set; on a standalone server the bus stops after its first attempt.
+         */
+        private boolean enabled;
+
+        /**
+         * How long a read of the change stream waits for changes before returning empty. Bounds only how long stopping
+         * takes; changes are delivered as soon as they are committed.
+         */
+        private Duration maxAwaitTime = Duration.ofSeconds(1);
+
+        /**
+         * Time waited before reopening the change stream after it failed.
+         */
+        private Duration retryInterval = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.base.application.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.export")
+public class ExportProperties {
+
+    /**
+     * Documents fetched per cursor round trip while exporting, which also bounds the documents held in memory.
+     */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,25 @@
+package br.com.base.application.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.import")
+public class ImportProperties {
+
+    /**
+     * Records written per bulk insert. The next batch is parsed and validated while the previous one is written.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Longest accepted record line, in characters. Longer lines are reported as invalid without being buffered.
+     */
+    private int maxLineLength = 4096;
+
+    /**
+     * Threads writing batches, shared by all running imports. An import whose batch finds them all busy writes it
+     * itself.
+     */
+    private int writerThreads = 4;
+}
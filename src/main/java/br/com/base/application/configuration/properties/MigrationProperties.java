@@ -0,0 +1,27 @@
+package br.com.base.application.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.migration")
+public class MigrationProperties {
+
+    /**
+     * Whether the pending index migrations are applied in the background after startup. Nodes started with it off
+     * never touch indexes, leaving them to a node or a job that has it on.
+     */
+    private boolean indexes = true;
+
+    /**
+     * How long a migration lock outlives a node that stopped renewing it. The index lock is renewed at every progress
+     * report, so it only has to exceed the progress interval; the search name backfill lock is not renewed.
+     */
+    private Duration lockTtl = Duration.ofMinutes(5);
+
+    /**
+     * How often the progress of a running index build is reported.
+     */
+    private Duration progressInterval = Duration.ofSeconds(10);
+}
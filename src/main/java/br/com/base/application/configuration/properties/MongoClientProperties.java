@@ -0,0 +1,127 @@
+package br.com.base.application.configuration.properties;
+
+import com.mongodb.MongoCompressor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Mongo client settings applied over the connection string. Unset values keep the connection string or driver default.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.mongo")
+public class MongoClientProperties {
+
+    private Pool pool = new Pool();
+
+    /**
+     * Time allowed to open a connection.
+     */
+    private Duration connectTimeout;
+
+    /**
+     * Time allowed for a socket read, zero for no limit.
+     */
+    private Duration readTimeout;
+
+    /**
+     * Time allowed to find a suitable server before an operation fails.
+     */
+    private Duration serverSelectionTimeout;
+
+    /**
+     * Wire compressors offered to the server, in order of preference. The first one the server supports is used.
+     */
+    private List<Compressor> compressors = new ArrayList<>();
+
+    /**
+     * Read preference and write concern of each customer operation. Operations left out use the connection string
+     * ones.
+     */
+    private Map<Operation, OperationPolicy> operations = new EnumMap<>(Operation.class);
+
+    @Data
+    public static class Pool {
+
+        /**
+         * Connections kept open even when idle.
+         */
+        private Integer minSize;
+
+        /**
+         * Connections opened at most per server. Operations beyond it wait for a connection to be checked in.
+         */
+        private Integer maxSize;
+
+        /**
+         * Time an operation waits for a connection before failing.
+         */
+        private Duration maxWaitTime;
+
+        /**
+         * Time a connection may stay idle before being closed.
+         */
+        private Duration maxConnectionIdleTime;
+
+        /**
+         * Time a connection may live before being closed, zero for no limit.
+         */
+        private Duration maxConnectionLifeTime;
+    }
+
+    @Data
+    public static class OperationPolicy {
+
+        /**
+         * Read preference mode, such as secondaryPreferred or nearest.
+         */
+        private String readPreference;
+
+        /**
+         * How far a secondary may lag behind the primary and still serve the read, at least 90 seconds.
+         */
+        private Duration maxStaleness;
+
+        /**
+         * Write concern, such as majority or w1.
+         */
+        private String writeConcern;
+    }
+
+    public enum Operation {
+        /**
+         * Every listing: pages, slices, keyset pages, exports and their counts.
+         */
+        FIND_ALL,
+        /**
+         * Fills the customer cache, so it reads the primary unless the cache is off.
+         */
+        FIND_BY_ID,
+        CREATE,
+        BULK_INSERT,
+        /**
+         * Name updates, which return the updated customer.
+         */
+        UPDATE,
+        DELETE
+    }
+
+    @RequiredArgsConstructor
+    public enum Compressor {
+        ZSTD(MongoCompressor::createZstdCompressor),
+        SNAPPY(MongoCompressor::createSnappyCompressor),
+        ZLIB(MongoCompressor::createZlibCompressor);
+
+        private final Supplier<MongoCompressor> factory;
+
+        public MongoCompressor create() {
+            return factory.get();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.base.application.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.pagination")
+public class PaginationProperties {
+
+    /**
+     * How long an exact count of a filtered listing is reused as the estimated total.
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of distinct filters whose counts are kept.
+     */
+    private long countCacheMaximumSize = 10_000;
+}
@@ -0,0 +1,20 @@
+package br.com.base.application.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.search")
+public class SearchProperties {
+
+    /**
+     * Whether the customers written before the normalized search name existed are updated in the background on
+     * startup. Until then, they are only found by exact and text name searches.
+     */
+    private boolean backfill = true;
+
+    /**
+     * Customers updated per bulk write by the backfill.
+     */
+    private int backfillBatchSize = 1000;
+}
@@ -2,15 +2,30 @@ package br.com.base.application.controller;
 
 import br.com.base.application.domain.payload.CreateCustomerPayload;
 import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
 import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.RawCustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
 import br.com.base.application.domain.search.CustomerSearchParams;
 import br.com.base.application.api.CustomerApi;
+import br.com.base.application.service.CustomerImportFormat;
+import br.com.base.application.service.CustomerImportService;
 import br.com.base.application.service.CustomerService;
+import java.io.InputStream;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,17 +33,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/customers")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class CustomerController implements CustomerApi {
 
     private final CustomerService service;
+    private final CustomerImportService importService;
 
     @Override
     @PostMapping
@@ -37,18 +57,25 @@ public class CustomerController implements CustomerApi {
         return service.create(payload);
     }
 
+    @Override
+    @PostMapping("/batch")
+    @ResponseStatus(code = HttpStatus.OK)
+    public BatchCreateResponse createAll(@RequestBody List<CreateCustomerPayload> payloads) {
+        return service.createAll(payloads);
+    }
+
     @Override
     @PutMapping("/{id}")
-    @ResponseStatus(code = HttpStatus.ACCEPTED)
-    public CustomerResponse update(@PathVariable ObjectId id, @RequestBody UpdateCustomerPayload payload) {
-        return service.update(id, payload);
+    public ResponseEntity<CustomerResponse> update(@PathVariable ObjectId id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCustomerPayload payload) {
+        return CustomerValidators.accepted(service.update(id, CustomerValidators.expectedVersion(id, ifMatch), payload));
     }
 
     @Override
     @GetMapping("/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public CustomerResponse findById(@PathVariable ObjectId id) {
-        return service.findById(id);
+    public ResponseEntity<byte[]> findById(@PathVariable ObjectId id) {
+        return CustomerValidators.ok(service.findJsonById(id));
     }
 
     @Override
@@ -61,7 +88,49 @@ public class CustomerController implements CustomerApi {
     @Override
     @ResponseStatus(code = HttpStatus.OK)
     @GetMapping
-    public Page<CustomerResponse> findAll(Pageable pageable, CustomerSearchParams search) {
+    public Page<RawCustomerResponse> findAll(Pageable pageable, CustomerSearchParams search) {
         return service.findAll(pageable, search);
     }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=slice")
+    public Slice<CustomerResponse> findSlice(Pageable pageable, CustomerSearchParams search) {
+        return service.findSlice(pageable, search);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=estimated")
+    public Page<CustomerResponse> findAllEstimated(Pageable pageable, CustomerSearchParams search) {
+        return service.findAllEstimated(pageable, search);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=cursor")
+    public CursorPage<CustomerResponse> findAllByCursor(Pageable pageable, @RequestParam(required = false) String cursor,
+            CustomerSearchParams search) {
+        final var position = cursor == null ? CustomerCursor.first(pageable.getSort()) : CustomerCursor.decode(cursor);
+        return service.findAllByCursor(position, pageable.getPageSize(), search);
+    }
+
+    @Override
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(CustomerSearchParams search) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(output -> service.export(search, output));
+    }
+
+    @Override
+    @PostMapping(value = "/import", consumes = {NDJSON_VALUE, CSV_VALUE}, produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCustomers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream upload) {
+        final var format = CustomerImportFormat.of(contentType).orElseThrow();
+        final var locale = LocaleContextHolder.getLocale();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(report -> importService.importCustomers(format, locale, upload, report));
+    }
 }
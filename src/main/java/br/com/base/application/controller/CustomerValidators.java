@@ -0,0 +1,73 @@
+package br.com.base.application.controller;
+
+import br.com.base.application.domain.response.CustomerJson;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import org.bson.types.ObjectId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Conditional requests on a customer, whose ETag is {@code "id-version"}.
+ * <p>
+ * Spring MVC and WebFlux compare the ETag and Last-Modified headers of a GET response entity with the If-None-Match and
+ * If-Modified-Since of the request, and answer 304 without writing the body. Updates compare the If-Match of the
+ * request themselves, through the version they expect.
+ */
+final class CustomerValidators {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private CustomerValidators() {
+    }
+
+    static ResponseEntity<CustomerResponse> ok(CustomerResponse customer) {
+        return withValidators(ResponseEntity.ok(), customer);
+    }
+
+    /**
+     * Customer already serialized, written as it is: the JSON bytes need no message converter of their own.
+     */
+    static ResponseEntity<byte[]> ok(CustomerJson customer) {
+        final var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        customer.getLastModified().ifPresent(response::lastModified);
+        return response.eTag(customer.getETag()).body(customer.getJson());
+    }
+
+    static ResponseEntity<CustomerResponse> accepted(CustomerResponse customer) {
+        return withValidators(ResponseEntity.status(HttpStatus.ACCEPTED), customer);
+    }
+
+    /**
+     * Version an update expects the customer to be at, from If-Match.
+     *
+     * @return {@code null} without If-Match or with {@code *}, which any existing customer matches.
+     * @throws CustomerVersionMismatchException when If-Match holds no strong ETag of this customer, which no version
+     *                                          can match.
+     */
+    static Long expectedVersion(ObjectId id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        final var prefix = '"' + id.toHexString() + '-';
+        for (final var candidate : ifMatch.split(",")) {
+            final var eTag = candidate.trim();
+            if (!eTag.startsWith(WEAK_PREFIX) && eTag.startsWith(prefix) && eTag.endsWith("\"")) {
+                try {
+                    return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+                } catch (NumberFormatException exception) {
+                    // Not an ETag of ours, so it cannot match.
+                }
+            }
+        }
+        throw new CustomerVersionMismatchException();
+    }
+
+    private static ResponseEntity<CustomerResponse> withValidators(ResponseEntity.BodyBuilder response,
+            CustomerResponse customer) {
+        customer.getLastModified().ifPresent(response::lastModified);
+        return response.eTag(customer.getETag()).body(customer);
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.base.application.controller;
+
+import br.com.base.application.api.ReactiveCustomerApi;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.service.ReactiveCustomerService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/customers")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveCustomerController implements ReactiveCustomerApi {
+
+    private final ReactiveCustomerService service;
+
+    @Override
+    @PostMapping
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public Mono<CustomerResponse> create(@RequestBody CreateCustomerPayload payload) {
+        return service.create(payload);
+    }
+
+    @Override
+    @PostMapping("/batch")
+    @ResponseStatus(code = HttpStatus.OK)
+    public Mono<BatchCreateResponse> createAll(@RequestBody List<CreateCustomerPayload> payloads) {
+        return service.createAll(payloads);
+    }
+
+    @Override
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CustomerResponse>> update(@PathVariable ObjectId id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCustomerPayload payload) {
+        return service.update(id, CustomerValidators.expectedVersion(id, ifMatch), payload)
+                .map(CustomerValidators::accepted);
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CustomerResponse>> findById(@PathVariable ObjectId id) {
+        return service.findById(id).map(CustomerValidators::ok);
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    @ResponseStatus(code = HttpStatus.ACCEPTED)
+    public Mono<Void> delete(@PathVariable ObjectId id) {
+        return service.delete(id);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping
+    public Mono<Page<CustomerResponse>> findAll(Pageable pageable, CustomerSearchParams search) {
+        return service.findAll(pageable, search);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=slice")
+    public Mono<Slice<CustomerResponse>> findSlice(Pageable pageable, CustomerSearchParams search) {
+        return service.findSlice(pageable, search);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=estimated")
+    public Mono<Page<CustomerResponse>> findAllEstimated(Pageable pageable, CustomerSearchParams search) {
+        return service.findAllEstimated(pageable, search);
+    }
+
+    @Override
+    @ResponseStatus(code = HttpStatus.OK)
+    @GetMapping(params = "mode=cursor")
+    public Mono<CursorPage<CustomerResponse>> findAllByCursor(Pageable pageable,
+            @RequestParam(required = false) String cursor, CustomerSearchParams search) {
+        return Mono.fromCallable(() -> cursor == null ? CustomerCursor.first(pageable.getSort()) : CustomerCursor.decode(cursor))
+                .flatMap(position -> service.findAllByCursor(position, pageable.getPageSize(), search));
+    }
+}
@@ -9,8 +9,12 @@ import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+/**
+ * Indexes of the collection are declared in {@code CustomerIndexMigrations}.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,8 +25,17 @@ public class Customer {
     @Id
     private ObjectId id;
     private String name;
+    /**
+     * Lower case, accent free copy of the name, kept in sync on every write.
+     */
+    private String searchName;
     @CreatedDate
     private LocalDateTime creationDate;
     @LastModifiedDate
     private LocalDateTime lastModifiedDate;
+    /**
+     * Incremented by every write. Customers written before it existed have none, which counts as version 0.
+     */
+    @Version
+    private Long version;
 }
@@ -0,0 +1,34 @@
+package br.com.base.application.domain.response;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+@ApiModel(description = "Summary and per-item results of a batch creation.")
+public class BatchCreateResponse {
+
+    @ApiModelProperty("Number of customers created.")
+    private final long created;
+
+    @ApiModelProperty("Number of items rejected because the customer already exists.")
+    private final long conflicts;
+
+    @ApiModelProperty("Number of items rejected by validation.")
+    private final long invalid;
+
+    @ApiModelProperty("Per-item results, in request order.")
+    private final List<BatchItemResponse> items;
+
+    public BatchCreateResponse(List<BatchItemResponse> items) {
+        this.items = items;
+        this.created = count(items, BatchItemStatus.CREATED);
+        this.conflicts = count(items, BatchItemStatus.CONFLICT);
+        this.invalid = count(items, BatchItemStatus.INVALID);
+    }
+
+    private static long count(List<BatchItemResponse> items, BatchItemStatus status) {
+        return items.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.base.application.domain.response;
+
+import br.com.base.application.domain.Customer;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.Collection;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ApiModel(description = "Result of a single item of a batch operation.")
+public class BatchItemResponse {
+
+    @ApiModelProperty("Position of the item in the request batch, or line of the record in an import.")
+    private final long index;
+
+    @ApiModelProperty("Outcome of the item.")
+    private final BatchItemStatus status;
+
+    @ApiModelProperty("Created customer, when the item was created.")
+    private final CustomerResponse customer;
+
+    @ApiModelProperty("Validation errors, when the item was invalid.")
+    private final Collection<ErrorResponse> errors;
+
+    public static BatchItemResponse created(long index, Customer customer) {
+        return new BatchItemResponse(index, BatchItemStatus.CREATED, new CustomerResponse(customer), List.of());
+    }
+
+    public static BatchItemResponse conflict(long index) {
+        return new BatchItemResponse(index, BatchItemStatus.CONFLICT, null, List.of());
+    }
+
+    public static BatchItemResponse invalid(long index, Collection<ErrorResponse> errors) {
+        return new BatchItemResponse(index, BatchItemStatus.INVALID, null, errors);
+    }
+}
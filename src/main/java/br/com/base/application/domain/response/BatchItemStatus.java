@@ -0,0 +1,7 @@
+package br.com.base.application.domain.response;
+
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT,
+    INVALID
+}
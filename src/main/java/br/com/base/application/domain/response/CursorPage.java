@@ -0,0 +1,19 @@
+package br.com.base.application.domain.response;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@ApiModel(description = "A page of results addressed by an opaque cursor.")
+public class CursorPage<T> {
+
+    @ApiModelProperty("Page content.")
+    private final List<T> content;
+
+    @ApiModelProperty("Opaque cursor of the next page, absent on the last page.")
+    private final String next;
+}
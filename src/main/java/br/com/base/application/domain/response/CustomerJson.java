@@ -0,0 +1,30 @@
+package br.com.base.application.domain.response;
+
+import java.time.Instant;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * {@link CustomerResponse} serialized once: the UTF-8 JSON bytes and the validators of the same state of the customer.
+ * Kept in the customer cache, a lookup by id writes the bytes as they are, with no mapping and no serialization.
+ * <p>
+ * The bytes belong to the id and version they were serialized from, and are dropped with the cache entry when that
+ * customer is updated or deleted. Only the bytes and validators are kept, not the response they were serialized from.
+ */
+@Getter
+public class CustomerJson {
+
+    private final String eTag;
+    private final Instant lastModified;
+    private final byte[] json;
+
+    public CustomerJson(CustomerResponse response, byte[] json) {
+        this.eTag = response.getETag();
+        this.lastModified = response.getLastModified().orElse(null);
+        this.json = json;
+    }
+
+    public Optional<Instant> getLastModified() {
+        return Optional.ofNullable(lastModified);
+    }
+}
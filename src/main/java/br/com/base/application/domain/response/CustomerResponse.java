@@ -3,6 +3,9 @@ package br.com.base.application.domain.response;
 import br.com.base.application.domain.Customer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.annotations.ApiModelProperty;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -20,4 +23,29 @@ public class CustomerResponse {
     public String getName() {
         return customer.getName();
     }
+
+    /**
+     * Strong validator of this state of the customer, {@code "id-version"}, which is also what If-Match sends back.
+     */
+    @JsonIgnore
+    public String getETag() {
+        return String.format("\"%s-%d\"", customer.getId().toHexString(), getVersion());
+    }
+
+    /**
+     * Version of this state of the customer, 0 for customers written before versions existed.
+     */
+    @JsonIgnore
+    public long getVersion() {
+        return customer.getVersion() == null ? 0 : customer.getVersion();
+    }
+
+    /**
+     * Modification date, truncated to the millisecond precision Mongo stores.
+     */
+    @JsonIgnore
+    public Optional<Instant> getLastModified() {
+        return Optional.ofNullable(customer.getLastModifiedDate())
+                .map(lastModified -> Instant.ofEpochMilli(lastModified.toInstant(ZoneOffset.UTC).toEpochMilli()));
+    }
 }
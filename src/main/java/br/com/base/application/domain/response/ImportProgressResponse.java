@@ -0,0 +1,27 @@
+package br.com.base.application.domain.response;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@ApiModel(description = "Progress of an import, reported after every written batch.")
+public class ImportProgressResponse {
+
+    @ApiModelProperty("Lines of the upload read so far, header and blank lines included.")
+    private final long lines;
+
+    @ApiModelProperty("Number of customers created so far.")
+    private final long created;
+
+    @ApiModelProperty("Number of records rejected so far because the customer already exists.")
+    private final long conflicts;
+
+    @ApiModelProperty("Number of records rejected so far by parsing or validation.")
+    private final long invalid;
+
+    @ApiModelProperty("Whether the whole upload was processed, true only on the last line of the report.")
+    private final boolean completed;
+}
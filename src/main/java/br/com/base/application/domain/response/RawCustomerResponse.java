@@ -0,0 +1,75 @@
+package br.com.base.application.domain.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import io.swagger.annotations.ApiModelProperty;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.ByteBufferBsonInput;
+
+/**
+ * {@link CustomerResponse} read straight from the driver bytes. The document is never mapped to a
+ * {@link br.com.base.application.domain.Customer}: its fields are transcoded from BSON to the JSON output as they are
+ * read, producing the same JSON as {@link CustomerResponse}.
+ */
+@RequiredArgsConstructor
+public class RawCustomerResponse implements JsonSerializable {
+
+    private final RawBsonDocument document;
+
+    @ApiModelProperty("Customer autogenerated id")
+    public String getId() {
+        return document.getObjectId("_id").getValue().toHexString();
+    }
+
+    @ApiModelProperty("Customer's name")
+    public String getName() {
+        return document.containsKey("name") ? document.getString("name").getValue() : null;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartObject(this);
+        writeFields(generator);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer)
+            throws IOException {
+        final WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                typeSerializer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(generator);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    /**
+     * Walks the projected fields once. Empty names are left out, as the mapper does for {@link CustomerResponse}.
+     */
+    private void writeFields(JsonGenerator generator) throws IOException {
+        try (var reader = new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()))) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                final var field = reader.readName();
+                if ("_id".equals(field) && reader.getCurrentBsonType() == BsonType.OBJECT_ID) {
+                    generator.writeStringField("id", reader.readObjectId().toHexString());
+                } else if ("name".equals(field) && reader.getCurrentBsonType() == BsonType.STRING) {
+                    final var name = reader.readString();
+                    if (!name.isEmpty()) {
+                        generator.writeStringField("name", name);
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+        }
+    }
+}
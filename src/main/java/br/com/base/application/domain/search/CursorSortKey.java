@@ -0,0 +1,35 @@
+package br.com.base.application.domain.search;
+
+import br.com.base.application.domain.Customer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+
+/**
+ * Sort properties supported by cursor pagination. Each one is backed by an index ending in {@code _id}, which is used
+ * as tiebreaker, so seeking to the next page never scans the documents already returned.
+ * <p>
+ * Legacy and imported customers may lack a creation date. The formatter returns {@code null} for them, which the
+ * cursor keeps as a missing value.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CursorSortKey {
+    ID("id", customer -> customer.getId().toHexString(), ObjectId::new),
+    NAME("name", Customer::getName, value -> value),
+    CREATION_DATE("creationDate", customer -> Objects.toString(customer.getCreationDate(), null),
+            LocalDateTime::parse);
+
+    private final String property;
+    private final Function<Customer, String> formatter;
+    private final Function<String, Object> parser;
+
+    public static Optional<CursorSortKey> of(String property) {
+        return Arrays.stream(values()).filter(key -> key.property.equals(property)).findFirst();
+    }
+}
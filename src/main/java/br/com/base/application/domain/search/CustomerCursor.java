@@ -0,0 +1,77 @@
+package br.com.base.application.domain.search;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.exception.InvalidCursorException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * Position of a cursor page: the sort in use plus the sort value and id of the last customer returned. A missing sort
+ * value is left out of the token.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CustomerCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final CursorSortKey key;
+    private final Direction direction;
+    private final ObjectId lastId;
+    private final String lastValue;
+
+    public static CustomerCursor first(Sort sort) {
+        if (sort.isUnsorted()) {
+            return new CustomerCursor(CursorSortKey.ID, Direction.DESC, null, null);
+        }
+        final var orders = sort.toList();
+        if (orders.size() > 1) {
+            throw new InvalidCursorException();
+        }
+        final var order = orders.get(0);
+        final var key = CursorSortKey.of(order.getProperty()).orElseThrow(InvalidCursorException::new);
+        return new CustomerCursor(key, order.getDirection(), null, null);
+    }
+
+    public static CustomerCursor decode(String token) {
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(token), UTF_8).split("\\|", 4);
+            final var cursor = new CustomerCursor(CursorSortKey.valueOf(parts[0]), Direction.valueOf(parts[1]),
+                    new ObjectId(parts[2]), parts.length > 3 ? parts[3] : null);
+            cursor.value();
+            return cursor;
+        } catch (RuntimeException exception) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public CustomerCursor next(Customer last) {
+        return new CustomerCursor(key, direction, last.getId(), key.getFormatter().apply(last));
+    }
+
+    public String encode() {
+        final var position = String.join(SEPARATOR, key.name(), direction.name(), lastId.toHexString());
+        final var token = lastValue == null ? position : position + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(UTF_8));
+    }
+
+    public Object value() {
+        return lastValue == null ? null : key.getParser().apply(lastValue);
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public Sort sort() {
+        final var sort = Sort.by(direction, key.getProperty());
+        return key == CursorSortKey.ID ? sort : sort.and(Sort.by(direction, CursorSortKey.ID.getProperty()));
+    }
+}
@@ -17,4 +17,8 @@ public class CustomerSearchParams {
 
     @ApiModelProperty("Search by customer's document Number")
     private String documentNumber;
+
+    @Builder.Default
+    @ApiModelProperty(value = "How the customer's name is matched", example = "PREFIX")
+    private NameMatch nameMatch = NameMatch.EXACT;
 }
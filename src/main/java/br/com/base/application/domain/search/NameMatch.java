@@ -0,0 +1,24 @@
+package br.com.base.application.domain.search;
+
+/**
+ * How {@link CustomerSearchParams#getName()} is matched. Every mode is served by an index: the unique index on
+ * {@code name}, the index on the normalized {@code searchName} or the text index.
+ */
+public enum NameMatch {
+    /**
+     * The name as stored.
+     */
+    EXACT,
+    /**
+     * The whole name, ignoring case and accents.
+     */
+    IGNORE_CASE,
+    /**
+     * The beginning of the name, ignoring case and accents.
+     */
+    PREFIX,
+    /**
+     * Any of the words of the name.
+     */
+    TEXT
+}
@@ -0,0 +1,39 @@
+package br.com.base.application.domain.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization shared by the stored {@code searchName} and the values searched for, so case and accent insensitive
+ * searches are plain index lookups.
+ */
+public final class SearchNames {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchNames() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        return MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Anchored regex matching the names starting with {@code prefix}. Every character but letters and digits is
+     * escaped, which keeps the regex a simple prefix that Mongo turns into index bounds.
+     */
+    public static String prefixRegex(String prefix) {
+        final var regex = new StringBuilder("^");
+        normalize(prefix).codePoints().forEach(codePoint -> {
+            if (!Character.isLetterOrDigit(codePoint)) {
+                regex.append('\\');
+            }
+            regex.appendCodePoint(codePoint);
+        });
+        return regex.toString();
+    }
+}
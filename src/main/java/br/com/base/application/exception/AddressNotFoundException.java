@@ -1,5 +1,5 @@
 package br.com.base.application.exception;
 
-public class AddressNotFoundException extends RuntimeException {
+public class AddressNotFoundException extends BusinessException {
 
 }
@@ -0,0 +1,15 @@
+package br.com.base.application.exception;
+
+/**
+ * Expected outcome of a request rather than a fault, answered by the exception handler with a fixed message. Unknown
+ * ids and duplicate names are thrown at the rate clients send them, so these exceptions record no stack trace and no
+ * suppressed exceptions: nothing reads them, and filling in the trace is most of the cost of throwing.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private static final long serialVersionUID = -1815926538307251374L;
+
+    protected BusinessException() {
+        super(null, null, false, false);
+    }
+}
@@ -1,6 +1,6 @@
 package br.com.base.application.exception;
 
-public class CustomerAlreadyExistsException extends RuntimeException {
+public class CustomerAlreadyExistsException extends BusinessException {
 
     private static final long serialVersionUID = 9138294891674773224L;
 
@@ -1,6 +1,6 @@
 package br.com.base.application.exception;
 
-public class CustomerNotFoundException extends RuntimeException {
+public class CustomerNotFoundException extends BusinessException {
 
     private static final long serialVersionUID = 7825066852624562956L;
 
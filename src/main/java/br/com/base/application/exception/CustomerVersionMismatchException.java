@@ -0,0 +1,7 @@
+package br.com.base.application.exception;
+
+public class CustomerVersionMismatchException extends BusinessException {
+
+    private static final long serialVersionUID = -4214763051207384926L;
+
+}
@@ -0,0 +1,7 @@
+package br.com.base.application.exception;
+
+public class InvalidCursorException extends BusinessException {
+
+    private static final long serialVersionUID = -3264520184391287561L;
+
+}
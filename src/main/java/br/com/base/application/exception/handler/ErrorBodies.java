@@ -0,0 +1,85 @@
+package br.com.base.application.exception.handler;
+
+import br.com.base.application.domain.response.ErrorResponse;
+import br.com.base.application.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import lombok.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Error messages and bodies resolved once and reused, since the same few errors are rendered over and over.
+ * <p>
+ * Business exceptions have a fixed message and status per type, so their whole response, the body serialized, is kept
+ * per type and locale; its headers are read-only, which makes it safe to share.
+ * Binding errors are kept as messages, keyed by the most specific code of the error (constraint, object and field)
+ * and its default message, which together fix the message arguments. The locale comes from Accept-Language, so both
+ * caches are bounded.
+ */
+class ErrorBodies {
+
+    private static final long MAXIMUM_SIZE = 1_000;
+    private static final String MESSAGE_SUFFIX = ".message";
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final Cache<BodyKey, ResponseEntity<byte[]>> responses = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE)
+            .build();
+    private final Cache<MessageKey, String> messages = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+    ErrorBodies(MessageSource messageSource, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Response of a business exception, with the serialized {@link ErrorResponse} of its
+     * {@code SimpleClassName.message}.
+     *
+     * @param status always the same for a given type.
+     */
+    ResponseEntity<byte[]> response(HttpStatus status, Class<? extends BusinessException> type, Locale locale) {
+        return responses.get(new BodyKey(type, locale), key -> ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(serialize(ErrorResponse.as(
+                        messageSource.getMessage(type.getSimpleName().concat(MESSAGE_SUFFIX), null, locale)))));
+    }
+
+    String message(MessageSourceResolvable error, Locale locale) {
+        final var codes = error.getCodes();
+        if (codes == null || codes.length == 0) {
+            return messageSource.getMessage(error, locale);
+        }
+        return messages.get(new MessageKey(codes[0], error.getDefaultMessage(), locale),
+                key -> messageSource.getMessage(error, locale));
+    }
+
+    private byte[] serialize(ErrorResponse error) {
+        try {
+            return objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Value
+    private static class BodyKey {
+        Class<?> type;
+        Locale locale;
+    }
+
+    @Value
+    private static class MessageKey {
+        String code;
+        String defaultMessage;
+        Locale locale;
+    }
+}
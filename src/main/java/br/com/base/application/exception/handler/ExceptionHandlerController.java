@@ -4,36 +4,50 @@ import static java.util.stream.Collectors.toList;
 
 import br.com.base.application.domain.response.ErrorResponse;
 import br.com.base.application.exception.AddressNotFoundException;
+import br.com.base.application.exception.BusinessException;
 import br.com.base.application.exception.CustomerAlreadyExistsException;
 import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import br.com.base.application.exception.InvalidCursorException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Collection;
 import javax.validation.ConstraintViolationException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
+/**
+ * Renders the errors of both web stacks. Business exceptions are answered with a response built once per type and
+ * locale, see {@link ErrorBodies}; binding errors are built per request from cached messages.
+ */
 @RestControllerAdvice
-@RequiredArgsConstructor
 public class ExceptionHandlerController {
 
-    private final MessageSource messageSource;
+    private final ErrorBodies errorBodies;
+
+    public ExceptionHandlerController(MessageSource messageSource, ObjectMapper objectMapper) {
+        this.errorBodies = new ErrorBodies(messageSource, objectMapper);
+    }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(code = HttpStatus.BAD_REQUEST)
     public Collection<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException exception) {
-        return exception.getBindingResult()
-                .getAllErrors()
-                .stream()
-                .map(violation -> ErrorResponse.as(messageSource.getMessage(violation, LocaleContextHolder.getLocale()))
-                        .tag(simpleKey(violation)))
-                .collect(toList());
+        return bindingErrors(exception.getBindingResult());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+    public Collection<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException exception) {
+        return bindingErrors(exception.getBindingResult());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
@@ -46,32 +60,43 @@ public class ExceptionHandlerController {
     }
 
     @ExceptionHandler(CustomerNotFoundException.class)
-    @ResponseStatus(code = HttpStatus.NOT_FOUND)
-    public ErrorResponse handleCustomerNotFoundException(CustomerNotFoundException exception) {
-        return exceptionMessage(exception);
+    public ResponseEntity<byte[]> handleCustomerNotFoundException(CustomerNotFoundException exception) {
+        return exceptionMessage(HttpStatus.NOT_FOUND, exception);
     }
 
     @ExceptionHandler(AddressNotFoundException.class)
-    @ResponseStatus(code = HttpStatus.NOT_FOUND)
-    public ErrorResponse handleAddressNotFoundException(AddressNotFoundException exception) {
-        return exceptionMessage(exception);
+    public ResponseEntity<byte[]> handleAddressNotFoundException(AddressNotFoundException exception) {
+        return exceptionMessage(HttpStatus.NOT_FOUND, exception);
     }
 
     @ExceptionHandler(CustomerAlreadyExistsException.class)
-    @ResponseStatus(code = HttpStatus.CONFLICT)
-    public ErrorResponse handlePriceAlreadyExistsException(CustomerAlreadyExistsException exception) {
-        return exceptionMessage(exception);
+    public ResponseEntity<byte[]> handlePriceAlreadyExistsException(CustomerAlreadyExistsException exception) {
+        return exceptionMessage(HttpStatus.CONFLICT, exception);
     }
 
-    private ErrorResponse exceptionMessage(Throwable throwable, Object... params) {
-        return ErrorResponse.as(message(throwable.getClass().getSimpleName().concat(".message"), params));
+    @ExceptionHandler(CustomerVersionMismatchException.class)
+    public ResponseEntity<byte[]> handleCustomerVersionMismatchException(CustomerVersionMismatchException exception) {
+        return exceptionMessage(HttpStatus.PRECONDITION_FAILED, exception);
     }
 
-    private String simpleKey(ObjectError violation) {
-        return violation instanceof FieldError ? ((FieldError) violation).getField() : violation.getObjectName();
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<byte[]> handleInvalidCursorException(InvalidCursorException exception) {
+        return exceptionMessage(HttpStatus.BAD_REQUEST, exception);
     }
 
-    private String message(String code, Object... params) {
-        return messageSource.getMessage(code, params, LocaleContextHolder.getLocale());
+    private ResponseEntity<byte[]> exceptionMessage(HttpStatus status, BusinessException exception) {
+        return errorBodies.response(status, exception.getClass(), LocaleContextHolder.getLocale());
+    }
+
+    private Collection<ErrorResponse> bindingErrors(BindingResult bindingResult) {
+        final var locale = LocaleContextHolder.getLocale();
+        return bindingResult.getAllErrors()
+                .stream()
+                .map(violation -> ErrorResponse.as(errorBodies.message(violation, locale)).tag(simpleKey(violation)))
+                .collect(toList());
+    }
+
+    private String simpleKey(ObjectError violation) {
+        return violation instanceof FieldError ? ((FieldError) violation).getField() : violation.getObjectName();
     }
 }
@@ -0,0 +1,48 @@
+package br.com.base.application.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.LoggingEventAppenderListenerImpl;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the events dropped by the asynchronous appenders of {@code logback-spring.xml} when their ring buffer is full,
+ * which they do instead of blocking the logging thread.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    static final String DROPPED = "logback.events.dropped";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext)) {
+            return;
+        }
+        final var context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLoggerList().forEach(logger -> logger.iteratorForAppenders().forEachRemaining(appender -> {
+            if (appender instanceof LoggingEventAsyncDisruptorAppender) {
+                bind((LoggingEventAsyncDisruptorAppender) appender, registry);
+            }
+        }));
+    }
+
+    static void bind(LoggingEventAsyncDisruptorAppender appender, MeterRegistry registry) {
+        final var dropped = Counter.builder(DROPPED)
+                .description("Log events dropped because the appender ring buffer was full")
+                .tag("appender", appender.getName())
+                .register(registry);
+        appender.addListener(new LoggingEventAppenderListenerImpl() {
+            @Override
+            public void eventAppendFailed(Appender<ILoggingEvent> failed, ILoggingEvent event, Throwable reason) {
+                dropped.increment();
+            }
+        });
+    }
+}
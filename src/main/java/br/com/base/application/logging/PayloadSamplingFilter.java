@@ -0,0 +1,50 @@
+package br.com.base.application.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Keeps only a sample of the {@link #PAYLOAD} events below WARN of a logger and its children. Being a turbo filter, it
+ * drops them before the event and its arguments are formatted.
+ */
+public class PayloadSamplingFilter extends TurboFilter {
+
+    /**
+     * Marks the request payload logs of the request path.
+     */
+    public static final Marker PAYLOAD = MarkerFactory.getMarker("PAYLOAD");
+
+    private String logger = Logger.ROOT_LOGGER_NAME;
+    private double rate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (marker == null || !marker.contains(PAYLOAD) || level.isGreaterOrEqual(Level.WARN) || !applies(logger)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean applies(Logger candidate) {
+        final var name = candidate.getName();
+        return Logger.ROOT_LOGGER_NAME.equals(logger) || name.equals(logger)
+                || name.startsWith(logger) && name.charAt(logger.length()) == '.';
+    }
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Share of the payload events kept, from 0 to 1.
+     */
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
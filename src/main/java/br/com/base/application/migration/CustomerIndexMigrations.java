@@ -0,0 +1,31 @@
+package br.com.base.application.migration;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import java.util.List;
+
+/**
+ * Indexes of the {@code customers} collection, the only place they are declared.
+ */
+public final class CustomerIndexMigrations {
+
+    static final String COLLECTION = "customers";
+
+    /**
+     * Version 1 matches, name for name, the indexes startup auto-index creation used to derive from the annotations of
+     * {@link br.com.base.application.domain.Customer}, so applying it to an existing database builds nothing.
+     */
+    public static final List<IndexMigration> ALL = List.of(
+            new IndexMigration(1, "Unique, text and keyset pagination indexes", COLLECTION, List.of(
+                    new IndexModel(Indexes.ascending("name"), new IndexOptions().name("name").unique(true)),
+                    new IndexModel(Indexes.text("name"),
+                            new IndexOptions().name("Customer_TextIndex").defaultLanguage("none")),
+                    new IndexModel(Indexes.ascending("name", "_id"), new IndexOptions().name("name_id")),
+                    new IndexModel(Indexes.ascending("searchName", "_id"), new IndexOptions().name("searchName_id")),
+                    new IndexModel(Indexes.ascending("creationDate", "_id"),
+                            new IndexOptions().name("creationDate_id")))));
+
+    private CustomerIndexMigrations() {
+    }
+}
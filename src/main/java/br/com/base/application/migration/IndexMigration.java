@@ -0,0 +1,18 @@
+package br.com.base.application.migration;
+
+import com.mongodb.client.model.IndexModel;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Indexes of a collection introduced together. Applied once, in version order, and recorded in the ledger under their
+ * version; a released migration is never edited, a later version adds or replaces its indexes.
+ */
+@Value
+public class IndexMigration {
+
+    int version;
+    String description;
+    String collection;
+    List<IndexModel> indexes;
+}
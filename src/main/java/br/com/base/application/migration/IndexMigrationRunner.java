@@ -0,0 +1,156 @@
+package br.com.base.application.migration;
+
+import static java.util.Comparator.comparingInt;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import br.com.base.application.configuration.properties.MigrationProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the pending {@link CustomerIndexMigrations} in the background once the application has started, so startup
+ * never waits for, or issues, index builds. Only the node holding the ledger lock builds; the others skip, and the
+ * versions it records are never built again.
+ * <p>
+ * While a build runs, its progress is read from {@code currentOp} and logged, and the lock is renewed. A lock that
+ * expired and was taken by another node stops the migration without recording the version.
+ */
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(prefix = "customer.migration", name = "indexes", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class IndexMigrationRunner implements ApplicationRunner {
+
+    private static final String ADMIN_DATABASE = "admin";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationLedger ledger;
+    private final MigrationProperties properties;
+    private final Executor executor;
+    private final String owner;
+
+    public IndexMigrationRunner(MongoTemplate mongoTemplate, MigrationLedger ledger, MigrationProperties properties,
+            @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.mongoTemplate = mongoTemplate;
+        this.ledger = ledger;
+        this.properties = properties;
+        this.executor = executor;
+        this.owner = MigrationLedger.newOwner();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        executor.execute(() -> {
+            try {
+                migrate(CustomerIndexMigrations.ALL);
+            } catch (RuntimeException exception) {
+                log.error("Index migration - Failed", exception);
+            }
+        });
+    }
+
+    /**
+     * @return the number of migrations applied by this call.
+     */
+    int migrate(List<IndexMigration> migrations) {
+        if (!ledger.lock(MigrationLedger.INDEXES, owner, properties.getLockTtl())) {
+            log.info("Index migration - Skipped, locked by another node");
+            return 0;
+        }
+        try {
+            final var applied = ledger.appliedVersions();
+            int count = 0;
+            for (final var migration : sorted(migrations)) {
+                if (!applied.contains(migration.getVersion())) {
+                    apply(migration);
+                    count++;
+                }
+            }
+            log.info("Index migration - Applied: {}", kv("Applied", count));
+            return count;
+        } finally {
+            ledger.unlock(MigrationLedger.INDEXES, owner);
+        }
+    }
+
+    private void apply(IndexMigration migration) {
+        log.info("Index migration - Version: {} Collection: {} Description: {}", kv("Version", migration.getVersion()),
+                kv("Collection", migration.getCollection()), kv("Description", migration.getDescription()));
+        final var start = System.nanoTime();
+        final var build = CompletableFuture.runAsync(() -> mongoTemplate.getCollection(migration.getCollection())
+                .createIndexes(migration.getIndexes()), executor);
+        while (!completed(build)) {
+            reportProgress(migration);
+            if (!ledger.lock(MigrationLedger.INDEXES, owner, properties.getLockTtl())) {
+                throw new IllegalStateException("Index migration lock lost to another node while building version "
+                        + migration.getVersion());
+            }
+        }
+        final var took = Duration.ofNanos(System.nanoTime() - start);
+        ledger.record(migration, owner, took);
+        log.info("Index migration - Version: {} Took: {}", kv("Version", migration.getVersion()), kv("Took", took));
+    }
+
+    /**
+     * Waits up to the progress interval for the build.
+     */
+    private boolean completed(CompletableFuture<Void> build) {
+        try {
+            build.get(properties.getProgressInterval().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException exception) {
+            return false;
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof RuntimeException ? (RuntimeException) exception.getCause()
+                    : new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an index build", exception);
+        }
+    }
+
+    /**
+     * Index builds of the collection in progress on the primary. Needs the {@code inprog} privilege; without it, only
+     * the elapsed time is known.
+     */
+    @SuppressWarnings("unchecked")
+    private void reportProgress(IndexMigration migration) {
+        try {
+            final var operations = mongoTemplate.getMongoDbFactory().getMongoDatabase(ADMIN_DATABASE)
+                    .runCommand(new Document("currentOp", true)
+                            .append("command.createIndexes", migration.getCollection()))
+                    .get("inprog", List.class);
+            for (final var operation : (List<Document>) operations) {
+                final var progress = operation.get("progress", Document.class);
+                log.info("Index migration - Version: {} Progress: {} Done: {} Total: {}",
+                        kv("Version", migration.getVersion()), kv("Progress", operation.getString("msg")),
+                        kv("Done", progress == null ? null : progress.get("done")),
+                        kv("Total", progress == null ? null : progress.get("total")));
+            }
+        } catch (RuntimeException exception) {
+            log.info("Index migration - Version: {} Building, progress unavailable: {}",
+                    kv("Version", migration.getVersion()), exception.getMessage());
+        }
+    }
+
+    private static List<IndexMigration> sorted(List<IndexMigration> migrations) {
+        final var sorted = new ArrayList<>(migrations);
+        sorted.sort(comparingInt(IndexMigration::getVersion));
+        return sorted;
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.base.application.migration;
+
+import static java.util.stream.Collectors.toSet;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applied migrations, one document per version in {@code migrations}, and the locks that let a single node run each
+ * kind of migration, one document of {@code migrationLocks} per kind that expires unless its owner renews it.
+ */
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class MigrationLedger {
+
+    static final String LEDGER = "migrations";
+    static final String LOCKS = "migrationLocks";
+    public static final String INDEXES = "indexes";
+    public static final String SEARCH_NAMES = "searchNames";
+    private static final String ID = "_id";
+    private static final String OWNER = "owner";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final MongoOperations mongoOperations;
+
+    /**
+     * Identifies this node and run as a lock owner.
+     */
+    public static String newOwner() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Takes the lock, or extends it when the owner already holds it.
+     *
+     * @return {@code false} when another owner holds an unexpired lock.
+     */
+    public boolean lock(String lock, String owner, Duration ttl) {
+        final var now = Instant.now();
+        final var free = new Criteria().orOperator(where(OWNER).is(owner), where(EXPIRES_AT).lt(Date.from(now)));
+        try {
+            mongoOperations.findAndModify(new Query(where(ID).is(lock).andOperator(free)),
+                    Update.update(OWNER, owner).set(EXPIRES_AT, Date.from(now.plus(ttl))),
+                    FindAndModifyOptions.options().upsert(true), Document.class, LOCKS);
+            return true;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+
+    public void unlock(String lock, String owner) {
+        mongoOperations.remove(new Query(where(ID).is(lock).and(OWNER).is(owner)), LOCKS);
+    }
+
+    public Set<Integer> appliedVersions() {
+        return mongoOperations.findAll(Document.class, LEDGER).stream()
+                .map(applied -> applied.getInteger(ID))
+                .collect(toSet());
+    }
+
+    public void record(IndexMigration migration, String owner, Duration took) {
+        mongoOperations.insert(new Document(ID, migration.getVersion())
+                .append("description", migration.getDescription())
+                .append("collection", migration.getCollection())
+                .append("indexes", migration.getIndexes().size())
+                .append("appliedBy", owner)
+                .append("appliedAt", new Date())
+                .append("tookMillis", took.toMillis()), LEDGER);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.base.application.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import br.com.base.application.domain.Customer;
+import com.mongodb.client.model.InsertOneModel;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * Insert models of the blocking and reactive bulk inserts.
+ */
+final class CustomerInserts {
+
+    private CustomerInserts() {
+    }
+
+    /**
+     * The driver bulk write skips the template entity callbacks, so auditing, the version and the search name are
+     * applied here.
+     */
+    static List<InsertOneModel<Document>> of(List<Customer> customers, MongoConverter converter, LocalDateTime now) {
+        return customers.stream().map(customer -> {
+            customer.setCreationDate(now);
+            customer.setLastModifiedDate(now);
+            customer.setVersion(0L);
+            CustomerSearchNameCallback.normalize(customer);
+            final var document = new Document();
+            converter.write(customer, document);
+            return new InsertOneModel<>(document);
+        }).collect(toList());
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.base.application.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import br.com.base.application.domain.search.CursorSortKey;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.NameMatch;
+import br.com.base.application.domain.search.SearchNames;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+
+/**
+ * Queries shared by the blocking and reactive customer repositories.
+ */
+final class CustomerQueries {
+
+    private static final String SEARCH_NAME = "searchName";
+    static final String VERSION = "version";
+
+    private CustomerQueries() {
+    }
+
+    static Query search(CustomerSearchParams search) {
+        return query(search, filters(search));
+    }
+
+    static Query after(CustomerSearchParams search, CustomerCursor cursor, int limit) {
+        final var criteria = filters(search);
+        if (!cursor.isFirst()) {
+            criteria.add(keyset(cursor));
+        }
+        return query(search, criteria).with(cursor.sort()).limit(limit);
+    }
+
+    /**
+     * Walks the matches in id order, reading only what the export writes.
+     */
+    static Query export(CustomerSearchParams search, int batchSize) {
+        final var query = search(search).with(Sort.by(CursorSortKey.ID.getProperty())).cursorBatchSize(batchSize);
+        query.fields().include("name");
+        return query;
+    }
+
+    /**
+     * A page of matches, reading only the fields of the response.
+     */
+    static Query page(CustomerSearchParams search, Pageable pageable) {
+        final var query = search(search).with(pageable);
+        query.fields().include("name");
+        return query;
+    }
+
+    static Query byId(ObjectId id) {
+        return new Query(where(CursorSortKey.ID.getProperty()).is(id));
+    }
+
+    /**
+     * The customer, only while at the expected version, or at any version when none is expected. Customers without a
+     * version are at version 0.
+     */
+    static Query byIdAndVersion(ObjectId id, Long version) {
+        if (version == null) {
+            return byId(id);
+        }
+        final var criteria = where(CursorSortKey.ID.getProperty()).is(id);
+        return new Query(version == 0 ? criteria.and(VERSION).in(0L, null) : criteria.and(VERSION).is(version));
+    }
+
+    /**
+     * The customer, only while it still has the given name and no search name, so a backfill never overwrites the
+     * search name of a rename written after it read the customer.
+     */
+    static Query byIdWithoutSearchName(ObjectId id, String name) {
+        return new Query(where(CursorSortKey.ID.getProperty()).is(id).and("name").is(name).and(SEARCH_NAME).is(null));
+    }
+
+    /**
+     * Customers written before {@code searchName} existed, found through its index since a missing field is indexed
+     * as null.
+     */
+    static Query withoutSearchName(int batchSize) {
+        final var query = new Query(where(SEARCH_NAME).is(null)).cursorBatchSize(batchSize);
+        query.fields().include("name");
+        return query;
+    }
+
+    private static List<Criteria> filters(CustomerSearchParams search) {
+        final var criteria = new ArrayList<Criteria>();
+        if (search.getName() != null) {
+            switch (nameMatch(search)) {
+                case IGNORE_CASE:
+                    criteria.add(where(SEARCH_NAME).is(SearchNames.normalize(search.getName())));
+                    break;
+                case PREFIX:
+                    criteria.add(where(SEARCH_NAME).regex(SearchNames.prefixRegex(search.getName())));
+                    break;
+                case TEXT:
+                    break;
+                default:
+                    criteria.add(where("name").is(search.getName()));
+            }
+        }
+        return criteria;
+    }
+
+    private static NameMatch nameMatch(CustomerSearchParams search) {
+        return search.getNameMatch() == null ? NameMatch.EXACT : search.getNameMatch();
+    }
+
+    /**
+     * Customers lacking the sort value sort before every other one, so they come first ascending and last descending.
+     * Range operators never match them, so they are added explicitly.
+     */
+    private static Criteria keyset(CustomerCursor cursor) {
+        final var ascending = cursor.getDirection().isAscending();
+        final var id = CursorSortKey.ID.getProperty();
+        if (cursor.getKey() == CursorSortKey.ID) {
+            return after(where(id), cursor.getLastId(), ascending);
+        }
+        final var property = cursor.getKey().getProperty();
+        final var value = cursor.value();
+        final var tie = after(where(property).is(value).and(id), cursor.getLastId(), ascending);
+        if (value == null) {
+            return ascending ? new Criteria().orOperator(tie, where(property).ne(null)) : tie;
+        }
+        final var beyond = after(where(property), value, ascending);
+        return ascending ? new Criteria().orOperator(beyond, tie)
+                : new Criteria().orOperator(beyond, tie, where(property).is(null));
+    }
+
+    private static Criteria after(Criteria criteria, Object value, boolean ascending) {
+        return ascending ? criteria.gt(value) : criteria.lt(value);
+    }
+
+    /**
+     * {@link TextCriteria} is not a {@link Criteria}, so the text search is added next to the other filters.
+     */
+    private static Query query(CustomerSearchParams search, List<Criteria> criteria) {
+        final var query = criteria.isEmpty() ? new Query()
+                : new Query(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+        if (search.getName() != null && nameMatch(search) == NameMatch.TEXT) {
+            query.addCriteria(TextCriteria.forDefaultLanguage().matching(search.getName()));
+        }
+        return query;
+    }
+}
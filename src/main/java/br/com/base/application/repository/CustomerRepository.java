@@ -1,12 +1,16 @@
 package br.com.base.application.repository;
 
 import br.com.base.application.domain.Customer;
+import java.util.Collection;
+import java.util.List;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CustomerRepository extends MongoRepository<Customer, ObjectId> {
+public interface CustomerRepository extends MongoRepository<Customer, ObjectId>, CustomerRepositoryCustom {
 
-    boolean existsByName(String documentNumber);
+    @Query(fields = "{ 'name' : 1 }")
+    List<Customer> findByNameIn(Collection<String> names);
 }
@@ -0,0 +1,80 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Inserts all customers with a single unordered bulk write, with the write concern of the bulk insert operation.
+     *
+     * @return the positions, in {@code customers}, of the documents rejected by a duplicate key.
+     */
+    Set<Integer> insertUnordered(List<Customer> customers);
+
+    /**
+     * Reads the customer with the read preference of the find by id operation.
+     */
+    Optional<Customer> findOneById(ObjectId id);
+
+    /**
+     * Seeks past the cursor position instead of skipping documents, so every page costs the same.
+     */
+    List<Customer> findAfter(CustomerSearchParams search, CustomerCursor cursor, int limit);
+
+    /**
+     * Walks a single cursor over the matches, fetching {@code batchSize} documents per round trip. The stream holds
+     * the cursor open and must be closed.
+     */
+    Stream<Customer> streamAll(CustomerSearchParams search, int batchSize);
+
+    /**
+     * Reads the page with only the response fields, left as the raw BSON read by the driver instead of being mapped to
+     * customers. The matches are counted only when the page alone does not tell the total. Both reads use the read
+     * preference of the find all operation.
+     */
+    Page<RawBsonDocument> findRawPage(CustomerSearchParams search, Pageable pageable);
+
+    /**
+     * Reads one extra document to tell whether a next page exists, without counting the matches.
+     */
+    Slice<Customer> findSlice(CustomerSearchParams search, Pageable pageable);
+
+    /**
+     * Collection metadata count when there is no filter, otherwise a recently computed count of the filter.
+     */
+    long estimateCount(CustomerSearchParams search);
+
+    /**
+     * Sets the name, bumps the last modified date and the version with a single findAndModify.
+     *
+     * @param expectedVersion version the customer must be at, {@code null} to update it at any version.
+     * @return the updated customer, empty when no customer has this id at the expected version.
+     */
+    Optional<Customer> updateName(ObjectId id, String name, Long expectedVersion);
+
+    /**
+     * Deletes with a single deleteOne.
+     *
+     * @return whether a customer was deleted.
+     */
+    boolean deleteOneById(ObjectId id);
+
+    /**
+     * Fills the {@code searchName} of the customers written before it existed, with one bulk write per
+     * {@code batchSize} customers.
+     *
+     * @return the number of customers updated.
+     */
+    long backfillSearchNames(int batchSize);
+}
@@ -0,0 +1,218 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.component.MongoOperationPolicies;
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import br.com.base.application.configuration.properties.PaginationProperties;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.SearchNames;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private final MongoOperations mongoOperations;
+    private final DateTimeProvider dateTimeProvider;
+    private final MongoOperationPolicies operationPolicies;
+    private final Cache<Document, Long> counts;
+    private final QueryMapper queryMapper;
+    private final UpdateMapper updateMapper;
+
+    public CustomerRepositoryCustomImpl(MongoOperations mongoOperations, DateTimeProvider dateTimeProvider,
+            MongoOperationPolicies operationPolicies, PaginationProperties properties) {
+        this.mongoOperations = mongoOperations;
+        this.dateTimeProvider = dateTimeProvider;
+        this.operationPolicies = operationPolicies;
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .maximumSize(properties.getCountCacheMaximumSize())
+                .build();
+        this.queryMapper = new QueryMapper(mongoOperations.getConverter());
+        this.updateMapper = new UpdateMapper(mongoOperations.getConverter());
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Set.of();
+        }
+        final var inserts = CustomerInserts.of(customers, mongoOperations.getConverter(), now());
+        try {
+            mongoOperations.execute(Customer.class, collection -> operationPolicies
+                    .apply(Operation.BULK_INSERT, collection)
+                    .bulkWrite(inserts, new BulkWriteOptions().ordered(false)));
+            return Set.of();
+        } catch (DuplicateKeyException exception) {
+            return DuplicateKeys.rejectedIndexes(exception);
+        }
+    }
+
+    @Override
+    public Optional<Customer> findOneById(ObjectId id) {
+        final var filter = filter(CustomerQueries.byId(id));
+        return Optional.ofNullable(mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.FIND_BY_ID, collection)
+                        .find(filter)
+                        .first()))
+                .map(this::read);
+    }
+
+    @Override
+    public List<Customer> findAfter(CustomerSearchParams search, CustomerCursor cursor, int limit) {
+        return findAll(CustomerQueries.after(search, cursor, limit),
+                find -> find.map(this::read).into(new ArrayList<>()));
+    }
+
+    @Override
+    public Stream<Customer> streamAll(CustomerSearchParams search, int batchSize) {
+        final MongoCursor<Document> cursor = findAll(CustomerQueries.export(search, batchSize), FindIterable::cursor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close)
+                .map(this::read);
+    }
+
+    @Override
+    public Page<RawBsonDocument> findRawPage(CustomerSearchParams search, Pageable pageable) {
+        final var query = CustomerQueries.page(search, pageable);
+        final var filter = filter(query);
+        final var sort = queryMapper.getMappedSort(query.getSortObject(), entity());
+        final List<RawBsonDocument> documents = mongoOperations.execute(Customer.class, collection -> operationPolicies
+                .apply(Operation.FIND_ALL, collection.withDocumentClass(RawBsonDocument.class))
+                .find(filter)
+                .projection(query.getFieldsObject())
+                .sort(sort)
+                .skip((int) query.getSkip())
+                .limit(query.getLimit())
+                .into(new ArrayList<>()));
+        return PageableExecutionUtils.getPage(documents, pageable, () -> mongoOperations.execute(Customer.class,
+                collection -> operationPolicies.apply(Operation.FIND_ALL, collection).countDocuments(filter)));
+    }
+
+    @Override
+    public Slice<Customer> findSlice(CustomerSearchParams search, Pageable pageable) {
+        final var query = CustomerQueries.search(search).with(pageable).limit(pageable.getPageSize() + 1);
+        final List<Customer> customers = findAll(query, find -> find.map(this::read).into(new ArrayList<>()));
+        final var hasNext = customers.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? customers.subList(0, pageable.getPageSize()) : customers, pageable, hasNext);
+    }
+
+    @Override
+    public long estimateCount(CustomerSearchParams search) {
+        final var query = CustomerQueries.search(search);
+        if (query.getQueryObject().isEmpty()) {
+            return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                    .apply(Operation.FIND_ALL, collection)
+                    .estimatedDocumentCount());
+        }
+        return counts.get(query.getQueryObject(), key -> mongoOperations.execute(Customer.class,
+                collection -> operationPolicies.apply(Operation.FIND_ALL, collection).countDocuments(filter(query))));
+    }
+
+    @Override
+    public Optional<Customer> updateName(ObjectId id, String name, Long expectedVersion) {
+        final var filter = filter(CustomerQueries.byIdAndVersion(id, expectedVersion));
+        final var update = updateMapper.getMappedObject(new Update().set("name", name)
+                .set("searchName", SearchNames.normalize(name)).set("lastModifiedDate", now())
+                .inc(CustomerQueries.VERSION, 1).getUpdateObject(), entity());
+        return Optional.ofNullable(mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.UPDATE, collection)
+                        .findOneAndUpdate(filter, update,
+                                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER))))
+                .map(this::read);
+    }
+
+    @Override
+    public boolean deleteOneById(ObjectId id) {
+        final var filter = filter(CustomerQueries.byId(id));
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                .apply(Operation.DELETE, collection)
+                .deleteOne(filter)).getDeletedCount() > 0;
+    }
+
+    @Override
+    public long backfillSearchNames(int batchSize) {
+        long updated = 0;
+        try (var customers = mongoOperations.stream(CustomerQueries.withoutSearchName(batchSize), Customer.class)) {
+            var bulk = mongoOperations.bulkOps(BulkMode.UNORDERED, Customer.class);
+            int pending = 0;
+            while (customers.hasNext()) {
+                final var customer = customers.next();
+                bulk.updateOne(CustomerQueries.byIdWithoutSearchName(customer.getId(), customer.getName()),
+                        Update.update("searchName", SearchNames.normalize(customer.getName())));
+                if (++pending == batchSize) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = mongoOperations.bulkOps(BulkMode.UNORDERED, Customer.class);
+                    pending = 0;
+                }
+            }
+            return pending == 0 ? updated : updated + bulk.execute().getModifiedCount();
+        }
+    }
+
+    /**
+     * Runs a listing query with the read preference of {@link Operation#FIND_ALL}, which the template can not apply
+     * per query.
+     */
+    private <T> T findAll(Query query, Function<FindIterable<Document>, T> reader) {
+        final var entity = entity();
+        final var batchSize = query.getMeta().getCursorBatchSize();
+        return mongoOperations.execute(Customer.class, collection -> {
+            final var find = operationPolicies.apply(Operation.FIND_ALL, collection)
+                    .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                    .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                    .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                    .skip((int) query.getSkip())
+                    .limit(query.getLimit());
+            return reader.apply(batchSize == null ? find : find.batchSize(batchSize));
+        });
+    }
+
+    private Customer read(Document document) {
+        return mongoOperations.getConverter().read(Customer.class, document);
+    }
+
+    private Document filter(Query query) {
+        return queryMapper.getMappedObject(query.getQueryObject(), entity());
+    }
+
+    private MongoPersistentEntity<?> entity() {
+        return mongoOperations.getConverter().getMappingContext().getRequiredPersistentEntity(Customer.class);
+    }
+
+    private LocalDateTime now() {
+        return dateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.SearchNames;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the {@code searchName} of every customer written through the template, bulk inserts included.
+ */
+@Component
+public class CustomerSearchNameCallback implements BeforeConvertCallback<Customer> {
+
+    @Override
+    public Customer onBeforeConvert(Customer customer, String collection) {
+        return normalize(customer);
+    }
+
+    static Customer normalize(Customer customer) {
+        customer.setSearchName(SearchNames.normalize(customer.getName()));
+        return customer;
+    }
+}
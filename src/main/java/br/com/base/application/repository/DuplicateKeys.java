@@ -0,0 +1,30 @@
+package br.com.base.application.repository;
+
+import static java.util.stream.Collectors.toSet;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import java.util.Set;
+import org.springframework.dao.DuplicateKeyException;
+
+final class DuplicateKeys {
+
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    private DuplicateKeys() {
+    }
+
+    /**
+     * Positions of the documents an unordered bulk insert rejected by duplicate key. Any other write error is rethrown.
+     */
+    static Set<Integer> rejectedIndexes(DuplicateKeyException exception) {
+        if (!(exception.getCause() instanceof MongoBulkWriteException)) {
+            throw exception;
+        }
+        final var errors = ((MongoBulkWriteException) exception.getCause()).getWriteErrors();
+        if (errors.stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY_CODE)) {
+            throw exception;
+        }
+        return errors.stream().map(BulkWriteError::getIndex).collect(toSet());
+    }
+}
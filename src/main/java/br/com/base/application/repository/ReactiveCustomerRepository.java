@@ -0,0 +1,17 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.domain.Customer;
+import java.util.Collection;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveCustomerRepository extends ReactiveMongoRepository<Customer, ObjectId>,
+        ReactiveCustomerRepositoryCustom {
+
+    @Query(fields = "{ 'name' : 1 }")
+    Flux<Customer> findByNameIn(Collection<String> names);
+}
@@ -0,0 +1,53 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import java.util.List;
+import java.util.Set;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CustomerRepositoryCustom}, with the same queries and round trips.
+ */
+public interface ReactiveCustomerRepositoryCustom {
+
+    /**
+     * Inserts all customers with a single unordered bulk write, stamping the audit dates itself.
+     *
+     * @return the positions, in {@code customers}, of the documents rejected by a duplicate key.
+     */
+    Mono<Set<Integer>> insertUnordered(List<Customer> customers);
+
+    /**
+     * Reads the customer with the read preference of the find by id operation.
+     */
+    Mono<Customer> findOneById(ObjectId id);
+
+    Flux<Customer> findAfter(CustomerSearchParams search, CustomerCursor cursor, int limit);
+
+    /**
+     * Reads the page and counts the matches concurrently, both with the read preference of the find all operation.
+     */
+    Mono<Page<Customer>> findPage(CustomerSearchParams search, Pageable pageable);
+
+    Mono<Slice<Customer>> findSlice(CustomerSearchParams search, Pageable pageable);
+
+    Mono<Long> estimateCount(CustomerSearchParams search);
+
+    /**
+     * @param expectedVersion version the customer must be at, {@code null} to update it at any version.
+     * @return the updated customer, empty when no customer has this id at the expected version.
+     */
+    Mono<Customer> updateName(ObjectId id, String name, Long expectedVersion);
+
+    /**
+     * @return whether a customer was deleted.
+     */
+    Mono<Boolean> deleteOneById(ObjectId id);
+}
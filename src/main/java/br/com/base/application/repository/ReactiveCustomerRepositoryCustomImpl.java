@@ -0,0 +1,178 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.component.ReactiveMongoOperationPolicies;
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import br.com.base.application.configuration.properties.PaginationProperties;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.SearchNames;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveCustomerRepositoryCustomImpl implements ReactiveCustomerRepositoryCustom {
+
+    private final ReactiveMongoOperations mongoOperations;
+    private final DateTimeProvider dateTimeProvider;
+    private final ReactiveMongoOperationPolicies operationPolicies;
+    private final AsyncCache<Document, Long> counts;
+    private final QueryMapper queryMapper;
+    private final UpdateMapper updateMapper;
+
+    public ReactiveCustomerRepositoryCustomImpl(ReactiveMongoOperations mongoOperations,
+            DateTimeProvider dateTimeProvider, ReactiveMongoOperationPolicies operationPolicies,
+            PaginationProperties properties) {
+        this.mongoOperations = mongoOperations;
+        this.dateTimeProvider = dateTimeProvider;
+        this.operationPolicies = operationPolicies;
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .maximumSize(properties.getCountCacheMaximumSize())
+                .buildAsync();
+        this.queryMapper = new QueryMapper(mongoOperations.getConverter());
+        this.updateMapper = new UpdateMapper(mongoOperations.getConverter());
+    }
+
+    @Override
+    public Mono<Set<Integer>> insertUnordered(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        final var inserts = CustomerInserts.of(customers, mongoOperations.getConverter(), now());
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.BULK_INSERT, collection)
+                        .bulkWrite(inserts, new BulkWriteOptions().ordered(false)))
+                .then(Mono.just(Set.<Integer>of()))
+                .onErrorResume(DuplicateKeyException.class, exception -> Mono.just(DuplicateKeys.rejectedIndexes(exception)));
+    }
+
+    @Override
+    public Flux<Customer> findAfter(CustomerSearchParams search, CustomerCursor cursor, int limit) {
+        return findAll(CustomerQueries.after(search, cursor, limit));
+    }
+
+    @Override
+    public Mono<Customer> findOneById(ObjectId id) {
+        final var filter = filter(CustomerQueries.byId(id));
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.FIND_BY_ID, collection)
+                        .find(filter)
+                        .first())
+                .next()
+                .map(this::read);
+    }
+
+    @Override
+    public Mono<Page<Customer>> findPage(CustomerSearchParams search, Pageable pageable) {
+        final var query = CustomerQueries.search(search).with(pageable);
+        return Mono.zip(findAll(query).collectList(), count(query))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    @Override
+    public Mono<Slice<Customer>> findSlice(CustomerSearchParams search, Pageable pageable) {
+        final var query = CustomerQueries.search(search).with(pageable).limit(pageable.getPageSize() + 1);
+        return findAll(query).collectList().map(customers -> {
+            final var hasNext = customers.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? customers.subList(0, pageable.getPageSize()) : customers, pageable, hasNext);
+        });
+    }
+
+    @Override
+    public Mono<Long> estimateCount(CustomerSearchParams search) {
+        final var query = CustomerQueries.search(search);
+        if (query.getQueryObject().isEmpty()) {
+            return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                    .apply(Operation.FIND_ALL, collection)
+                    .estimatedDocumentCount()).next();
+        }
+        return Mono.fromFuture(() -> counts.get(query.getQueryObject(),
+                (filter, executor) -> count(query).toFuture()));
+    }
+
+    @Override
+    public Mono<Customer> updateName(ObjectId id, String name, Long expectedVersion) {
+        final var filter = filter(CustomerQueries.byIdAndVersion(id, expectedVersion));
+        final var update = updateMapper.getMappedObject(new Update().set("name", name)
+                .set("searchName", SearchNames.normalize(name)).set("lastModifiedDate", now())
+                .inc(CustomerQueries.VERSION, 1).getUpdateObject(), entity());
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.UPDATE, collection)
+                        .findOneAndUpdate(filter, update,
+                                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER)))
+                .next()
+                .map(this::read);
+    }
+
+    @Override
+    public Mono<Boolean> deleteOneById(ObjectId id) {
+        final var filter = filter(CustomerQueries.byId(id));
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.DELETE, collection)
+                        .deleteOne(filter))
+                .next()
+                .map(result -> result.getDeletedCount() > 0);
+    }
+
+    /**
+     * Runs a listing query with the read preference of {@link Operation#FIND_ALL}, which the template can not apply
+     * per query.
+     */
+    private Flux<Customer> findAll(Query query) {
+        final var entity = entity();
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.FIND_ALL, collection)
+                        .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                        .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                        .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                        .skip((int) query.getSkip())
+                        .limit(query.getLimit()))
+                .map(this::read);
+    }
+
+    private Mono<Long> count(Query query) {
+        return mongoOperations.execute(Customer.class, collection -> operationPolicies
+                        .apply(Operation.FIND_ALL, collection)
+                        .countDocuments(filter(query)))
+                .next();
+    }
+
+    private Customer read(Document document) {
+        return mongoOperations.getConverter().read(Customer.class, document);
+    }
+
+    private Document filter(Query query) {
+        return queryMapper.getMappedObject(query.getQueryObject(), entity());
+    }
+
+    private MongoPersistentEntity<?> entity() {
+        return mongoOperations.getConverter().getMappingContext().getRequiredPersistentEntity(Customer.class);
+    }
+
+    private LocalDateTime now() {
+        return dateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+    }
+}
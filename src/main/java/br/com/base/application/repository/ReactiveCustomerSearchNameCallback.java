@@ -0,0 +1,21 @@
+package br.com.base.application.repository;
+
+import br.com.base.application.domain.Customer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CustomerSearchNameCallback}.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveCustomerSearchNameCallback implements ReactiveBeforeConvertCallback<Customer> {
+
+    @Override
+    public Mono<Customer> onBeforeConvert(Customer customer, String collection) {
+        return Mono.just(CustomerSearchNameCallback.normalize(customer));
+    }
+}
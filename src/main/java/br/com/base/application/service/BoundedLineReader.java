@@ -0,0 +1,79 @@
+package br.com.base.application.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines through a fixed buffer, keeping at most {@code maxLength} characters of a line, so an upload without
+ * line breaks cannot grow the heap.
+ */
+final class BoundedLineReader {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private long number;
+    private boolean truncated;
+
+    BoundedLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @return the next line without its terminator, {@code null} at the end of the input.
+     */
+    String next() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        var read = false;
+        while (fill()) {
+            read = true;
+            final var c = buffer[position++];
+            if (c == '\n') {
+                return complete();
+            }
+            if (line.length() < maxLength) {
+                line.append(c);
+            } else {
+                truncated = true;
+            }
+        }
+        return read ? complete() : null;
+    }
+
+    /**
+     * 1-based number of the line last returned by {@link #next()}.
+     */
+    long number() {
+        return number;
+    }
+
+    /**
+     * Whether the line last returned by {@link #next()} was cut at {@code maxLength}.
+     */
+    boolean truncated() {
+        return truncated;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        limit = reader.read(buffer);
+        position = 0;
+        return limit > 0;
+    }
+
+    private String complete() {
+        number++;
+        final var length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+}
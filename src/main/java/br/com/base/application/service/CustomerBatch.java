@@ -0,0 +1,85 @@
+package br.com.base.application.service;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.ErrorResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import javax.validation.Validator;
+import org.bson.types.ObjectId;
+
+/**
+ * Bookkeeping of a batch creation: validation, name conflicts and per-item results, independent of how the batch is
+ * read from and written to Mongo.
+ */
+class CustomerBatch {
+
+    private final List<CreateCustomerPayload> payloads;
+    private final BatchItemResponse[] results;
+    private final List<Integer> candidates = new ArrayList<>();
+    private final List<Integer> modelIndexes = new ArrayList<>();
+    private final List<Customer> models = new ArrayList<>();
+
+    CustomerBatch(List<CreateCustomerPayload> payloads, Validator validator) {
+        this.payloads = payloads;
+        this.results = new BatchItemResponse[payloads.size()];
+        for (int index = 0; index < payloads.size(); index++) {
+            final var errors = violations(validator, payloads.get(index));
+            if (errors.isEmpty()) {
+                candidates.add(index);
+            } else {
+                results[index] = BatchItemResponse.invalid(index, errors);
+            }
+        }
+    }
+
+    Set<String> names() {
+        return candidates.stream().map(index -> payloads.get(index).getName()).collect(toSet());
+    }
+
+    /**
+     * Marks as conflicts the items whose name is taken, either by an existing customer or by an earlier item.
+     *
+     * @return the customers to insert.
+     */
+    List<Customer> accept(Collection<Customer> existing) {
+        final var taken = existing.stream().map(Customer::getName).collect(toSet());
+        for (Integer index : candidates) {
+            final var payload = payloads.get(index);
+            if (taken.add(payload.getName())) {
+                models.add(Customer.builder().id(new ObjectId()).name(payload.getName()).build());
+                modelIndexes.add(index);
+            } else {
+                results[index] = BatchItemResponse.conflict(index);
+            }
+        }
+        return models;
+    }
+
+    /**
+     * @param rejected positions, in the list returned by {@link #accept(Collection)}, rejected by duplicate key.
+     */
+    BatchCreateResponse complete(Set<Integer> rejected) {
+        for (int position = 0; position < models.size(); position++) {
+            final int index = modelIndexes.get(position);
+            results[index] = rejected.contains(position) ? BatchItemResponse.conflict(index)
+                    : BatchItemResponse.created(index, models.get(position));
+        }
+        return new BatchCreateResponse(Arrays.asList(results));
+    }
+
+    private static Collection<ErrorResponse> violations(Validator validator, CreateCustomerPayload payload) {
+        return validator.validate(payload)
+                .stream()
+                .map(violation -> ErrorResponse.as(violation.getMessage()).tag(violation.getPropertyPath().toString()))
+                .collect(toList());
+    }
+}
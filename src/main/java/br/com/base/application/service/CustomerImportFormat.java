@@ -0,0 +1,32 @@
+package br.com.base.application.service;
+
+import br.com.base.application.api.CustomerApi;
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.http.MediaType;
+
+/**
+ * Upload formats accepted by the import, one record per line.
+ */
+public enum CustomerImportFormat {
+
+    /**
+     * One {@code CreateCustomerPayload} JSON object per line.
+     */
+    NDJSON(MediaType.parseMediaType(CustomerApi.NDJSON_VALUE)),
+    /**
+     * A header line naming {@code CreateCustomerPayload} properties, then one record per line. Quoted values may hold
+     * commas and doubled quotes, not line breaks.
+     */
+    CSV(MediaType.parseMediaType(CustomerApi.CSV_VALUE));
+
+    private final MediaType mediaType;
+
+    CustomerImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static Optional<CustomerImportFormat> of(MediaType contentType) {
+        return Arrays.stream(values()).filter(format -> format.mediaType.isCompatibleWith(contentType)).findFirst();
+    }
+}
@@ -0,0 +1,230 @@
+package br.com.base.application.service;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import br.com.base.application.configuration.properties.ImportProperties;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.BatchItemStatus;
+import br.com.base.application.domain.response.ImportProgressResponse;
+import br.com.base.application.repository.CustomerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.MessageSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports customers from uploads of any size. Records are read one line at a time and written with one unordered bulk
+ * insert per batch; while a batch is written the next one is parsed and validated, so Mongo rather than the parser
+ * bounds throughput. The report is written as it goes, one line per rejected record and one progress line per batch,
+ * so memory stays flat however large the upload or the number of errors.
+ * <p>
+ * Imports stream their report from the application task executor, whose unbounded queue never grows the pool, so
+ * waiting there for writes queued behind other imports could block every thread for good. Batches are written on a
+ * pool owned by this service instead, kept out of the context so it is never taken for the application task executor.
+ * It has no queue: a write that finds no idle thread runs on the import's own thread.
+ */
+@Service
+@Slf4j
+public class CustomerImportService implements DisposableBean {
+
+    private static final String WRITER_THREAD_PREFIX = "customer-import-";
+
+    private final CustomerRepository repository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final ImportProperties properties;
+    private final ExecutorService executor;
+
+    public CustomerImportService(CustomerRepository repository, Validator validator, ObjectMapper objectMapper,
+            MessageSource messageSource, ImportProperties properties) {
+        this.repository = repository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getWriterThreads(), properties.getWriterThreads(),
+                0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                new CustomizableThreadFactory(WRITER_THREAD_PREFIX), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param locale of the request, since imports run after it has been handed off to another thread.
+     */
+    public void importCustomers(CustomerImportFormat format, Locale locale, InputStream input, OutputStream report)
+            throws IOException {
+        log.info("Import customers - Format: {}", kv("Format", format));
+        final var records = new CustomerRecords(format,
+                new BoundedLineReader(new InputStreamReader(input, StandardCharsets.UTF_8), properties.getMaxLineLength()),
+                objectMapper, code -> messageSource.getMessage(code, null, locale));
+        final var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(report)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            final var progress = new Progress(writer, generator);
+            var pending = CompletableFuture.<Written>completedFuture(null);
+            var batch = new ArrayList<CustomerRecords.Record>(properties.getBatchSize());
+            CustomerRecords.Record record;
+            while ((record = records.next()) != null) {
+                batch.add(record);
+                if (batch.size() == properties.getBatchSize()) {
+                    final var prepared = prepare(batch);
+                    progress.report(await(pending), records.lines(), false);
+                    pending = CompletableFuture.supplyAsync(() -> write(prepared), executor);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            final var prepared = prepare(batch);
+            progress.report(await(pending), records.lines(), false);
+            progress.report(write(prepared), records.lines(), true);
+            log.info("Import customers finished - Lines: {} Created: {} Conflicts: {} Invalid: {}",
+                    kv("Lines", records.lines()), kv("Created", progress.created), kv("Conflicts", progress.conflicts),
+                    kv("Invalid", progress.invalid));
+        }
+    }
+
+    /**
+     * Validates the parsed records of a batch, on the calling thread.
+     */
+    private Prepared prepare(List<CustomerRecords.Record> records) {
+        final var lines = new ArrayList<Long>(records.size());
+        final var payloads = new ArrayList<CreateCustomerPayload>(records.size());
+        final var failures = new ArrayList<BatchItemResponse>();
+        for (var record : records) {
+            if (record.getPayload() == null) {
+                failures.add(BatchItemResponse.invalid(record.getLine(), List.of(record.getError())));
+            } else {
+                lines.add(record.getLine());
+                payloads.add(record.getPayload());
+            }
+        }
+        return new Prepared(lines, failures, new CustomerBatch(payloads, validator));
+    }
+
+    private Written write(Prepared prepared) {
+        final var batch = prepared.batch;
+        final var names = batch.names();
+        final var models = batch.accept(names.isEmpty() ? List.of() : repository.findByNameIn(names));
+        final var response = batch.complete(models.isEmpty() ? Set.of() : repository.insertUnordered(models));
+        final var rejected = prepared.failures;
+        for (int index = 0; index < response.getItems().size(); index++) {
+            final var item = response.getItems().get(index);
+            final long line = prepared.lines.get(index);
+            if (item.getStatus() == BatchItemStatus.CONFLICT) {
+                rejected.add(BatchItemResponse.conflict(line));
+            } else if (item.getStatus() == BatchItemStatus.INVALID) {
+                rejected.add(BatchItemResponse.invalid(line, item.getErrors()));
+            }
+        }
+        rejected.sort(Comparator.comparingLong(BatchItemResponse::getIndex));
+        return new Written(response.getCreated(), rejected);
+    }
+
+    private static Written await(CompletableFuture<Written> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static final class Prepared {
+
+        private final List<Long> lines;
+        private final List<BatchItemResponse> failures;
+        private final CustomerBatch batch;
+
+        private Prepared(List<Long> lines, List<BatchItemResponse> failures, CustomerBatch batch) {
+            this.lines = lines;
+            this.failures = failures;
+            this.batch = batch;
+        }
+    }
+
+    /**
+     * Outcome of a batch: how many customers were created and the rejected records, numbered by upload line.
+     */
+    private static final class Written {
+
+        private final long created;
+        private final List<BatchItemResponse> rejected;
+
+        private Written(long created, List<BatchItemResponse> rejected) {
+            this.created = created;
+            this.rejected = rejected;
+        }
+    }
+
+    /**
+     * Running totals, written to the report together with the rejected records.
+     */
+    private static final class Progress {
+
+        private final ObjectWriter writer;
+        private final JsonGenerator generator;
+        private long created;
+        private long conflicts;
+        private long invalid;
+
+        private Progress(ObjectWriter writer, JsonGenerator generator) {
+            this.writer = writer;
+            this.generator = generator;
+        }
+
+        /**
+         * Reports the rejected records of a written batch, then the totals, and flushes.
+         */
+        private void report(Written written, long lines, boolean completed) throws IOException {
+            if (written != null) {
+                created += written.created;
+                for (var item : written.rejected) {
+                    if (item.getStatus() == BatchItemStatus.CONFLICT) {
+                        conflicts++;
+                    } else {
+                        invalid++;
+                    }
+                    line(item);
+                }
+            }
+            if (written != null || completed) {
+                line(new ImportProgressResponse(lines, created, conflicts, invalid, completed));
+                generator.flush();
+            }
+        }
+
+        private void line(Object value) throws IOException {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.base.application.service;
+
+import static java.util.stream.Collectors.toList;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Page assembly shared by the blocking and reactive customer services.
+ */
+final class CustomerPages {
+
+    private CustomerPages() {
+    }
+
+    /**
+     * @param customers up to {@code size + 1} customers read after the cursor, the extra one flags a next page.
+     */
+    static CursorPage<CustomerResponse> cursorPage(CustomerCursor cursor, int size, List<Customer> customers) {
+        final var hasNext = customers.size() > size;
+        final var content = hasNext ? customers.subList(0, size) : customers;
+        final var next = hasNext ? cursor.next(content.get(size - 1)).encode() : null;
+        return new CursorPage<>(content.stream().map(CustomerResponse::new).collect(toList()), next);
+    }
+
+    /**
+     * Whether the slice alone tells the exact total, so no estimate has to be read.
+     */
+    static boolean isExact(Slice<?> slice) {
+        return !slice.hasNext() && (slice.hasContent() || slice.isFirst());
+    }
+
+    /**
+     * Total of a slice, trusting the estimate only as far as it agrees with what the slice has seen.
+     */
+    static long estimatedTotal(Slice<?> slice, long estimate) {
+        final var seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (slice.hasNext()) {
+            return Math.max(estimate, seen + 1);
+        }
+        return isExact(slice) ? seen : Math.min(estimate, seen);
+    }
+}
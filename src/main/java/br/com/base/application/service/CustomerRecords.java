@@ -0,0 +1,150 @@
+package br.com.base.application.service;
+
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Turns the lines of an upload into records, one at a time. Blank lines are skipped; lines that cannot be parsed
+ * become records carrying the parse error instead of a payload.
+ */
+final class CustomerRecords {
+
+    static final String MALFORMED = "CustomerImport.record.malformed";
+    static final String TOO_LONG = "CustomerImport.record.tooLong";
+    static final String COLUMNS = "CustomerImport.record.columns";
+    private static final String TAG = "record";
+
+    private final CustomerImportFormat format;
+    private final BoundedLineReader lines;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader payloadReader;
+    private final Function<String, String> messages;
+    private List<String> header;
+
+    /**
+     * @param messages resolves the message codes of this class.
+     */
+    CustomerRecords(CustomerImportFormat format, BoundedLineReader lines, ObjectMapper objectMapper,
+            Function<String, String> messages) {
+        this.format = format;
+        this.lines = lines;
+        this.objectMapper = objectMapper;
+        this.payloadReader = objectMapper.readerFor(CreateCustomerPayload.class);
+        this.messages = messages;
+    }
+
+    /**
+     * @return the next record, {@code null} at the end of the upload.
+     */
+    Record next() throws IOException {
+        String line;
+        while ((line = lines.next()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (lines.truncated()) {
+                return Record.failed(lines.number(), messages.apply(TOO_LONG));
+            }
+            if (format == CustomerImportFormat.CSV && header == null) {
+                header = csvValues(line);
+                continue;
+            }
+            return format == CustomerImportFormat.CSV ? csv(line) : ndjson(line);
+        }
+        return null;
+    }
+
+    /**
+     * Lines read so far, including skipped ones.
+     */
+    long lines() {
+        return lines.number();
+    }
+
+    private Record ndjson(String line) {
+        try {
+            final CreateCustomerPayload payload = payloadReader.readValue(line);
+            return payload == null ? Record.failed(lines.number(), messages.apply(MALFORMED))
+                    : Record.parsed(lines.number(), payload);
+        } catch (JsonProcessingException exception) {
+            return Record.failed(lines.number(), messages.apply(MALFORMED));
+        }
+    }
+
+    private Record csv(String line) {
+        final var values = csvValues(line);
+        if (values == null || header == null) {
+            return Record.failed(lines.number(), messages.apply(MALFORMED));
+        }
+        if (values.size() != header.size()) {
+            return Record.failed(lines.number(), messages.apply(COLUMNS));
+        }
+        final var fields = new LinkedHashMap<String, String>();
+        for (int column = 0; column < header.size(); column++) {
+            fields.put(header.get(column), values.get(column));
+        }
+        try {
+            return Record.parsed(lines.number(), objectMapper.convertValue(fields, CreateCustomerPayload.class));
+        } catch (IllegalArgumentException exception) {
+            return Record.failed(lines.number(), messages.apply(MALFORMED));
+        }
+    }
+
+    /**
+     * Splits a RFC 4180 line, {@code null} when a quote is left open.
+     */
+    private static List<String> csvValues(String line) {
+        final var values = new ArrayList<String>();
+        final var value = new StringBuilder();
+        var quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            final var c = line.charAt(index);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    value.append(c);
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return quoted ? null : values;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class Record {
+
+        private final long line;
+        private final CreateCustomerPayload payload;
+        private final ErrorResponse error;
+
+        static Record parsed(long line, CreateCustomerPayload payload) {
+            return new Record(line, payload, null);
+        }
+
+        static Record failed(long line, String message) {
+            return new Record(line, null, ErrorResponse.as(message).tag(TAG));
+        }
+    }
+}
@@ -1,22 +1,42 @@
 package br.com.base.application.service;
 
+import static br.com.base.application.logging.PayloadSamplingFilter.PAYLOAD;
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
+import br.com.base.application.cache.CustomerCache;
+import br.com.base.application.configuration.properties.ExportProperties;
 import br.com.base.application.domain.Customer;
 import br.com.base.application.domain.payload.CreateCustomerPayload;
 import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerJson;
 import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.RawCustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
 import br.com.base.application.domain.search.CustomerSearchParams;
 import br.com.base.application.exception.CustomerAlreadyExistsException;
 import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
 import br.com.base.application.repository.CustomerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
-import org.springframework.data.domain.Example;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,61 +45,121 @@ import org.springframework.stereotype.Service;
 public class CustomerService {
 
     private final CustomerRepository repository;
+    private final Validator validator;
+    private final CustomerCache cache;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
 
     public CustomerResponse create(@Valid CreateCustomerPayload payload) {
-        log.info("Create customer - Payload: {}", kv("CreateCustomerPayload", payload));
-        if (repository.existsByName(payload.getName())) {
+        log.info(PAYLOAD, "Create customer - Payload: {}", kv("CreateCustomerPayload", payload));
+        try {
+            return new CustomerResponse(repository.insert(createModel(payload)));
+        } catch (DuplicateKeyException exception) {
             throw new CustomerAlreadyExistsException();
         }
-        return new CustomerResponse(repository.save(createModel(payload)));
     }
 
+    public BatchCreateResponse createAll(List<CreateCustomerPayload> payloads) {
+        log.info("Create customers batch - Size: {}", kv("Size", payloads.size()));
+        final var batch = new CustomerBatch(payloads, validator);
+        final var models = batch.accept(repository.findByNameIn(batch.names()));
+        return batch.complete(repository.insertUnordered(models));
+    }
 
-    public CustomerResponse update(ObjectId id, @Valid UpdateCustomerPayload payload) {
-        log.info("Update customer - Id: {} Payload: {}", kv("Id", id), kv("UpdateCustomerPayload", payload));
+    /**
+     * @param expectedVersion version the customer must still be at, {@code null} to update it at any version.
+     * @throws CustomerVersionMismatchException when the customer exists at another version.
+     */
+    public CustomerResponse update(ObjectId id, Long expectedVersion, @Valid UpdateCustomerPayload payload) {
+        log.info(PAYLOAD, "Update customer - Id: {} Version: {} Payload: {}", kv("Id", id),
+                kv("Version", expectedVersion), kv("UpdateCustomerPayload", payload));
+
+        try {
+            return repository.updateName(id, payload.getName(), expectedVersion).map(CustomerResponse::new)
+                    .orElseThrow(() -> expectedVersion != null && repository.existsById(id)
+                            ? new CustomerVersionMismatchException() : new CustomerNotFoundException());
+        } catch (DuplicateKeyException exception) {
+            throw new CustomerAlreadyExistsException();
+        } finally {
+            cache.evict(id);
+        }
+    }
 
-        return repository.findById(id).map(customer -> repository.save(updateModel(payload, customer))
-                ).map(CustomerResponse::new)
+    /**
+     * Customer as the JSON bytes of its response, serialized when it is loaded into the cache and reused by every hit
+     * until it is updated, deleted or expires.
+     */
+    public CustomerJson findJsonById(ObjectId id) {
+        return cache.get(id, key -> repository.findOneById(key).map(this::serialize))
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
-    public CustomerResponse findById(ObjectId id) {
-        return new CustomerResponse(getCustomerById(id));
+    public void delete(ObjectId id) {
+        log.info(PAYLOAD, "Delete customer -  Id: {}", kv("Id", id));
+        try {
+            if (!repository.deleteOneById(id)) {
+                throw new CustomerNotFoundException();
+            }
+        } finally {
+            cache.evict(id);
+        }
     }
 
-    public void delete(ObjectId id) {
-        log.info("Delete customer -  Id: {}", kv("Id", id));
-        final var customer = getCustomerById(id);
+    private CustomerJson serialize(Customer customer) {
+        final var response = new CustomerResponse(customer);
+        try {
+            return new CustomerJson(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 
-        repository.delete(customer);
+    /**
+     * Busiest listing, served from the raw documents of the driver: no entity mapping and no reflective serialization.
+     */
+    public Page<RawCustomerResponse> findAll(Pageable pageable, CustomerSearchParams search) {
+        return repository.findRawPage(search, pageable).map(RawCustomerResponse::new);
     }
 
-    private Customer getCustomerById(ObjectId id) {
-        return repository.findById(id).orElseThrow(CustomerNotFoundException::new);
+    public Slice<CustomerResponse> findSlice(Pageable pageable, CustomerSearchParams search) {
+        return repository.findSlice(search, pageable).map(CustomerResponse::new);
     }
 
-    public Page<CustomerResponse> findAll(Pageable pageable, CustomerSearchParams search) {
-        return repository.findAll(example(search), pageable).map(CustomerResponse::new);
+    public Page<CustomerResponse> findAllEstimated(Pageable pageable, CustomerSearchParams search) {
+        final var slice = repository.findSlice(search, pageable);
+        return new PageImpl<>(slice.getContent(), pageable, estimatedTotal(slice, search)).map(CustomerResponse::new);
     }
 
-    private Customer createModel(CreateCustomerPayload payload) {
-        return Customer.builder()
-                .name(payload.getName())
-                .build();
+    public CursorPage<CustomerResponse> findAllByCursor(CustomerCursor cursor, int size, CustomerSearchParams search) {
+        return CustomerPages.cursorPage(cursor, size, repository.findAfter(search, cursor, size + 1));
     }
 
-    private Customer updateModel(UpdateCustomerPayload payload, Customer model) {
-        model.setName(payload.getName());
-        return model;
+    /**
+     * Writes every match as one JSON line while walking a single Mongo cursor, so memory stays bounded by the cursor
+     * batch and the output buffer whatever the collection size. The output is flushed by its own buffer, not per line.
+     */
+    public void export(CustomerSearchParams search, OutputStream output) throws IOException {
+        log.info("Export customers - Search: {}", kv("CustomerSearchParams", search));
+        final var writer = objectMapper.writerFor(CustomerResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var customers = repository.streamAll(search, exportProperties.getBatchSize());
+                var generator = objectMapper.getFactory().createGenerator(output)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            for (var iterator = customers.iterator(); iterator.hasNext(); ) {
+                writer.writeValue(generator, new CustomerResponse(iterator.next()));
+                generator.writeRaw('\n');
+            }
+        }
     }
 
-    private Customer filters(final CustomerSearchParams search) {
-        return Customer.builder().name(search.getName())
-                .build();
+    private long estimatedTotal(Slice<Customer> slice, CustomerSearchParams search) {
+        return CustomerPages.estimatedTotal(slice, CustomerPages.isExact(slice) ? 0 : repository.estimateCount(search));
     }
 
-    private Example<Customer> example(final CustomerSearchParams search) {
-        return Example.of(filters(search));
+    private Customer createModel(CreateCustomerPayload payload) {
+        return Customer.builder()
+                .name(payload.getName())
+                .build();
     }
 
 }
@@ -0,0 +1,125 @@
+package br.com.base.application.service;
+
+import static br.com.base.application.logging.PayloadSamplingFilter.PAYLOAD;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.exception.CustomerAlreadyExistsException;
+import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import br.com.base.application.repository.ReactiveCustomerRepository;
+import java.util.List;
+import javax.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CustomerService}. Reads go straight to Mongo: the id cache of the blocking
+ * service loads synchronously and is not shared with this one.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveCustomerService {
+
+    private final ReactiveCustomerRepository repository;
+    private final Validator validator;
+
+    public Mono<CustomerResponse> create(CreateCustomerPayload payload) {
+        log.info(PAYLOAD, "Create customer - Payload: {}", kv("CreateCustomerPayload", payload));
+        return repository.insert(createModel(payload))
+                .map(CustomerResponse::new)
+                .onErrorMap(DuplicateKeyException.class, exception -> new CustomerAlreadyExistsException());
+    }
+
+    public Mono<BatchCreateResponse> createAll(List<CreateCustomerPayload> payloads) {
+        log.info("Create customers batch - Size: {}", kv("Size", payloads.size()));
+        final var batch = new CustomerBatch(payloads, validator);
+        return repository.findByNameIn(batch.names())
+                .collectList()
+                .map(batch::accept)
+                .flatMap(repository::insertUnordered)
+                .map(batch::complete);
+    }
+
+    public Mono<CustomerResponse> update(ObjectId id, Long expectedVersion, UpdateCustomerPayload payload) {
+        log.info(PAYLOAD, "Update customer - Id: {} Version: {} Payload: {}", kv("Id", id),
+                kv("Version", expectedVersion), kv("UpdateCustomerPayload", payload));
+        return repository.updateName(id, payload.getName(), expectedVersion)
+                .map(CustomerResponse::new)
+                .switchIfEmpty(Mono.defer(() -> updateMissed(id, expectedVersion)))
+                .onErrorMap(DuplicateKeyException.class, exception -> new CustomerAlreadyExistsException());
+    }
+
+    public Mono<CustomerResponse> findById(ObjectId id) {
+        return repository.findOneById(id)
+                .map(CustomerResponse::new)
+                .switchIfEmpty(Mono.error(CustomerNotFoundException::new));
+    }
+
+    public Mono<Void> delete(ObjectId id) {
+        log.info(PAYLOAD, "Delete customer -  Id: {}", kv("Id", id));
+        return repository.deleteOneById(id)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : Mono.error(new CustomerNotFoundException()));
+    }
+
+    public Mono<Page<CustomerResponse>> findAll(Pageable pageable, CustomerSearchParams search) {
+        return repository.findPage(search, pageable).map(page -> page.map(CustomerResponse::new));
+    }
+
+    public Mono<Slice<CustomerResponse>> findSlice(Pageable pageable, CustomerSearchParams search) {
+        return repository.findSlice(search, pageable).map(slice -> slice.map(CustomerResponse::new));
+    }
+
+    public Mono<Page<CustomerResponse>> findAllEstimated(Pageable pageable, CustomerSearchParams search) {
+        return repository.findSlice(search, pageable).flatMap(slice -> estimatedTotal(slice, search)
+                .map(total -> new PageImpl<>(slice.getContent(), pageable, total).map(CustomerResponse::new)));
+    }
+
+    public Mono<CursorPage<CustomerResponse>> findAllByCursor(CustomerCursor cursor, int size,
+            CustomerSearchParams search) {
+        return repository.findAfter(search, cursor, size + 1)
+                .collectList()
+                .map(customers -> CustomerPages.cursorPage(cursor, size, customers));
+    }
+
+    /**
+     * An update that matched no customer failed on the version only when the customer exists.
+     */
+    private Mono<CustomerResponse> updateMissed(ObjectId id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(new CustomerNotFoundException());
+        }
+        return repository.existsById(id).flatMap(exists -> Mono.error(exists ? new CustomerVersionMismatchException()
+                : new CustomerNotFoundException()));
+    }
+
+    private Mono<Long> estimatedTotal(Slice<Customer> slice, CustomerSearchParams search) {
+        final var estimate = CustomerPages.isExact(slice) ? Mono.just(0L) : repository.estimateCount(search);
+        return estimate.map(value -> CustomerPages.estimatedTotal(slice, value));
+    }
+
+    private Customer createModel(CreateCustomerPayload payload) {
+        return Customer.builder()
+                .name(payload.getName())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.base.application;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import br.com.base.application.component.SearchNameBackfill;
+import br.com.base.application.migration.IndexMigrationRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Starts the application in the default profile. Mongo is never reached: the client connects lazily, and the startup
+ * runners only log their failure.
+ */
+@SpringBootTest(properties = {"spring.data.mongodb.uri=mongodb://localhost:27017/?serverSelectionTimeoutMS=100",
+        "spring.data.mongodb.database=customers"})
+class BaseApplicationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void startsWithTheApplicationTaskExecutor() {
+        assertNotNull(context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME));
+        assertNotNull(context.getBean(SearchNameBackfill.class));
+        assertNotNull(context.getBean(IndexMigrationRunner.class));
+    }
+}
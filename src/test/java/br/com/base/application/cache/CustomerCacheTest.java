@@ -0,0 +1,106 @@
+package br.com.base.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.response.CustomerJson;
+import br.com.base.application.domain.response.CustomerResponse;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class CustomerCacheTest {
+
+    private final ObjectId id = new ObjectId();
+    private final CustomerJson customer = new CustomerJson(
+            new CustomerResponse(Customer.builder().id(id).name("Test").build()), new byte[0]);
+
+    @Test
+    void loadsOnceAndRecordsHits() {
+        final var cache = new CustomerCache(new CustomerCacheProperties());
+        final var loads = new AtomicInteger();
+
+        cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Optional.of(customer);
+        });
+        final var cached = cache.get(id, key -> Optional.empty());
+
+        assertEquals(Optional.of(customer), cached);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void doesNotCacheMissingCustomers() {
+        final var cache = new CustomerCache(new CustomerCacheProperties());
+
+        assertTrue(cache.get(id, key -> Optional.empty()).isEmpty());
+
+        assertEquals(Optional.of(customer), cache.get(id, key -> Optional.of(customer)));
+    }
+
+    @Test
+    void evictedCustomerIsLoadedAgain() {
+        final var cache = new CustomerCache(new CustomerCacheProperties());
+        cache.get(id, key -> Optional.of(customer));
+
+        cache.evict(id);
+
+        assertTrue(cache.get(id, key -> Optional.empty()).isEmpty());
+    }
+
+    @Test
+    void evictWaitsForInFlightLoad() throws Exception {
+        final var cache = new CustomerCache(new CustomerCacheProperties());
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> cache.get(id, key -> {
+                loading.countDown();
+                await(release);
+                return Optional.of(customer);
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            final var eviction = executor.submit(() -> cache.evict(id));
+            release.countDown();
+            eviction.get(5, TimeUnit.SECONDS);
+
+            assertTrue(cache.get(id, key -> Optional.empty()).isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        final var properties = new CustomerCacheProperties();
+        properties.setEnabled(false);
+        final var cache = new CustomerCache(properties);
+        final var loads = new AtomicInteger();
+
+        cache.get(id, key -> Optional.of(customer));
+        cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Optional.of(customer);
+        });
+
+        assertEquals(1, loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
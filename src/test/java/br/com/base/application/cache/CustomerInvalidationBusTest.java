@@ -0,0 +1,144 @@
+package br.com.base.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.response.CustomerJson;
+import br.com.base.application.domain.response.CustomerResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CustomerInvalidationBusTest {
+
+    private final ObjectId changed = new ObjectId();
+    private final ObjectId untouched = new ObjectId();
+    private final CustomerCacheProperties properties = new CustomerCacheProperties();
+    private final CustomerCache cache = new CustomerCache(properties);
+    private final InProcessCustomerChangeTransport transport = new InProcessCustomerChangeTransport();
+    private CustomerInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        properties.getInvalidation().setRetryInterval(Duration.ofMillis(10));
+        bus = new CustomerInvalidationBus(cache, transport, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        bus.destroy();
+    }
+
+    @Test
+    void bypassesTheCacheUntilTheStreamIsOpen() {
+        final var loads = new AtomicInteger();
+
+        cache.get(changed, id -> {
+            loads.incrementAndGet();
+            return load(id);
+        });
+        assertFalse(cached(changed));
+
+        start();
+
+        assertTrue(cached(changed));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictsCustomersChangedByAnotherNode() {
+        start();
+
+        transport.publish(changed);
+
+        eventually(() -> !cached(changed));
+        assertTrue(cached(untouched));
+    }
+
+    @Test
+    void resumesFromTheLastPositionReachedAndKeepsTheCache() {
+        start();
+        transport.publish(changed);
+        final var position = transport.advance();
+        transport.fail(new IllegalStateException("Connection reset"));
+
+        eventually(() -> transport.resumedAfter().size() == 2 && cached(untouched));
+        assertEquals(List.of(InProcessCustomerChangeTransport.current(), position), transport.resumedAfter());
+    }
+
+    @Test
+    void startsOverAndClearsTheCacheOnceOpenWhenTheStreamCanNotBeResumed() {
+        start();
+        final var position = transport.advance();
+        transport.failToOpen(new IllegalStateException("Resume point no longer in the oplog"));
+        transport.fail(new IllegalStateException("Connection reset"));
+
+        eventually(() -> transport.resumedAfter().size() == 3);
+        assertEquals(List.of(InProcessCustomerChangeTransport.current(), position,
+                InProcessCustomerChangeTransport.current()), transport.resumedAfter());
+        eventually(() -> !cached(untouched));
+    }
+
+    @Test
+    void startsOverWhenTheCollectionIsDropped() {
+        start();
+        transport.dropCollection();
+        transport.fail(new IllegalStateException("Change stream invalidated"));
+
+        eventually(() -> transport.resumedAfter().size() == 2);
+        assertEquals(List.of(InProcessCustomerChangeTransport.current(), InProcessCustomerChangeTransport.current()),
+                transport.resumedAfter());
+        assertFalse(cached(untouched));
+    }
+
+    @Test
+    void stopsAndKeepsTheCacheOnWhenTheServerHasNoChangeStreams() {
+        transport.failToOpen(new UnsupportedOperationException("Change streams need a replica set"));
+
+        bus.run(null);
+
+        eventually(() -> {
+            cache.get(changed, this::load);
+            return cached(changed);
+        });
+        assertEquals(1, transport.resumedAfter().size());
+    }
+
+    /**
+     * Starts the bus and fills the cache once it is on.
+     */
+    private void start() {
+        bus.run(null);
+        eventually(() -> {
+            cache.get(changed, this::load);
+            return cached(changed);
+        });
+        cache.get(untouched, this::load);
+    }
+
+    private Optional<CustomerJson> load(ObjectId id) {
+        return Optional.of(new CustomerJson(new CustomerResponse(Customer.builder().id(id).name("Test").build()),
+                new byte[0]));
+    }
+
+    private boolean cached(ObjectId id) {
+        return cache.get(id, key -> Optional.empty()).isPresent();
+    }
+
+    private static void eventually(BooleanSupplier condition) {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in 5 s");
+            Thread.onSpinWait();
+        }
+    }
+}
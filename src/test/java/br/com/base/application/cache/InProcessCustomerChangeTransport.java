@@ -0,0 +1,91 @@
+package br.com.base.application.cache;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.types.ObjectId;
+
+/**
+ * Stand-in for the change stream: changes, positions and failures published by the test are delivered in order, and
+ * the position each listen resumed from is kept.
+ */
+class InProcessCustomerChangeTransport implements CustomerChangeTransport {
+
+    private static final BsonDocument CURRENT = new BsonDocument();
+
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    private final BlockingQueue<RuntimeException> openFailures = new LinkedBlockingQueue<>();
+    private final List<BsonDocument> resumedAfter = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+    private long position;
+
+    static BsonDocument current() {
+        return CURRENT;
+    }
+
+    BsonDocument publish(ObjectId id) {
+        events.add(new CustomerChange(id));
+        return advance();
+    }
+
+    BsonDocument dropCollection() {
+        events.add(new CustomerChange(null));
+        return advance();
+    }
+
+    /**
+     * A read that returned no change but moved the position.
+     */
+    BsonDocument advance() {
+        final var token = new BsonDocument("_data", new BsonInt64(++position));
+        events.add(token);
+        return token;
+    }
+
+    void fail(RuntimeException failure) {
+        events.add(failure);
+    }
+
+    void failToOpen(RuntimeException failure) {
+        openFailures.add(failure);
+    }
+
+    List<BsonDocument> resumedAfter() {
+        return resumedAfter;
+    }
+
+    @Override
+    public void listen(BsonDocument resumeAfter, Listener listener) {
+        resumedAfter.add(resumeAfter == null ? CURRENT : resumeAfter);
+        final var openFailure = openFailures.poll();
+        if (openFailure != null) {
+            throw openFailure;
+        }
+        listener.opened(resumeAfter != null);
+        while (!closed) {
+            final Object event;
+            try {
+                event = events.poll(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (event instanceof RuntimeException) {
+                throw (RuntimeException) event;
+            } else if (event instanceof CustomerChange) {
+                listener.changed((CustomerChange) event);
+            } else if (event != null) {
+                listener.advanced((BsonDocument) event);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
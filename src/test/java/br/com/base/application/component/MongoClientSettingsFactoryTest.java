@@ -0,0 +1,71 @@
+package br.com.base.application.component;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.base.application.configuration.properties.MongoClientProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties.Compressor;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ServerAddress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class MongoClientSettingsFactoryTest {
+
+    private final MongoClientProperties properties = new MongoClientProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MongoClientSettingsFactory factory = new MongoClientSettingsFactory(
+            new MockEnvironment().withProperty("spring.data.mongodb.uri",
+                    "mongodb://localhost/customer?maxPoolSize=20&connectTimeoutMS=1000"),
+            properties, registry, new MongoCommandMetrics(registry), new MongoPoolMetrics(registry),
+            new MongoWireMetrics(registry));
+
+    @Test
+    void appliesConfiguredValuesOverTheConnectionString() {
+        properties.getPool().setMinSize(5);
+        properties.getPool().setMaxSize(50);
+        properties.getPool().setMaxWaitTime(Duration.ofSeconds(2));
+        properties.setConnectTimeout(Duration.ofSeconds(3));
+        properties.setServerSelectionTimeout(Duration.ofSeconds(4));
+        properties.setCompressors(List.of(Compressor.ZSTD, Compressor.ZLIB));
+
+        final var settings = factory.create();
+
+        assertEquals(5, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(50, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(2000, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(3000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(4000, settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(List.of("zstd", "zlib"), settings.getCompressorList().stream()
+                .map(MongoCompressor::getName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void reactiveStreamsSupportTls() {
+        final var settings = new MongoClientSettingsFactory(
+                new MockEnvironment().withProperty("spring.data.mongodb.uri", "mongodb://localhost/customer?ssl=true"),
+                properties, registry, new MongoCommandMetrics(registry), new MongoPoolMetrics(registry),
+                new MongoWireMetrics(registry)).createReactive();
+
+        assertTrue(settings.getSslSettings().isEnabled());
+        assertDoesNotThrow(() -> settings.getStreamFactoryFactory()
+                .create(settings.getSocketSettings(), settings.getSslSettings())
+                .create(new ServerAddress()));
+    }
+
+    @Test
+    void keepsTheConnectionStringWhenUnset() {
+        final var settings = factory.createReactive();
+
+        assertEquals(20, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(1000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertTrue(settings.getCompressorList().isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.base.application.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class MongoCommandMetricsTest {
+
+    private final ConnectionDescription connection = new ConnectionDescription(
+            new ServerId(new ClusterId(), new ServerAddress()));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MongoCommandMetrics metrics = new MongoCommandMetrics(registry);
+
+    @Test
+    void timesCommandsByCommandAndCollection() {
+        metrics.commandStarted(new CommandStartedEvent(1, connection, "customer", "find",
+                new BsonDocument("find", new BsonString("customers"))));
+        metrics.commandSucceeded(new CommandSucceededEvent(1, connection, "find", new BsonDocument(),
+                TimeUnit.MILLISECONDS.toNanos(3)));
+
+        final var timer = registry.get(MongoCommandMetrics.METRIC)
+                .tags("command", "find", "collection", "customers", "status", "SUCCESS").timer();
+        assertEquals(1, timer.count());
+        assertEquals(3, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void readsTheCollectionOfGetMoreApart() {
+        metrics.commandStarted(new CommandStartedEvent(2, connection, "customer", "getMore",
+                new BsonDocument("getMore", new BsonInt64(42)).append("collection", new BsonString("customers"))));
+        metrics.commandFailed(new CommandFailedEvent(2, connection, "getMore", 1, new MongoException("failed")));
+
+        assertEquals(1, registry.get(MongoCommandMetrics.METRIC)
+                .tags("command", "getMore", "collection", "customers", "status", "FAILED").timer().count());
+    }
+
+    @Test
+    void tagsCommandsWithoutCollection() {
+        metrics.commandStarted(new CommandStartedEvent(3, connection, "admin", "ping",
+                new BsonDocument("ping", new BsonInt32(1))));
+        metrics.commandSucceeded(new CommandSucceededEvent(3, connection, "ping", new BsonDocument(), 1));
+
+        assertEquals(1, registry.get(MongoCommandMetrics.METRIC).tags("collection", "none").timer().count());
+    }
+}
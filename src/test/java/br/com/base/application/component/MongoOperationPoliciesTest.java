@@ -0,0 +1,91 @@
+package br.com.base.application.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import br.com.base.application.configuration.properties.MongoClientProperties.OperationPolicy;
+import br.com.base.application.domain.Customer;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+
+class MongoOperationPoliciesTest {
+
+    private final MongoClientProperties properties = new MongoClientProperties();
+    private final CustomerCacheProperties cacheProperties = new CustomerCacheProperties();
+
+    @Test
+    void appliesTheReadPreferenceAndWriteConcernOfTheOperation() {
+        properties.getOperations().put(Operation.FIND_ALL, policy("secondaryPreferred", Duration.ofSeconds(90), null));
+        properties.getOperations().put(Operation.BULK_INSERT, policy(null, null, "w1"));
+        final var policies = new MongoOperationPolicies(properties, cacheProperties);
+        @SuppressWarnings("unchecked") final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+
+        policies.apply(Operation.FIND_ALL, collection);
+        policies.apply(Operation.BULK_INSERT, collection);
+
+        Mockito.verify(collection).withReadPreference(ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS));
+        Mockito.verify(collection).withWriteConcern(WriteConcern.W1);
+    }
+
+    @Test
+    void keepsTheCollectionOfOperationsWithoutPolicy() {
+        @SuppressWarnings("unchecked") final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+
+        assertSame(collection, new MongoOperationPolicies(properties, cacheProperties).apply(Operation.FIND_BY_ID, collection));
+    }
+
+    @Test
+    void resolvesTheCreateWriteConcernForCustomerInserts() {
+        properties.getOperations().put(Operation.CREATE, policy(null, null, "majority"));
+        final var policies = new MongoOperationPolicies(properties, cacheProperties);
+
+        assertEquals(WriteConcern.MAJORITY, policies.resolve(action(MongoActionOperation.INSERT)));
+        assertEquals(WriteConcern.ACKNOWLEDGED, policies.resolve(action(MongoActionOperation.UPDATE)));
+    }
+
+    @Test
+    void rejectsUnknownWriteConcerns() {
+        properties.getOperations().put(Operation.CREATE, policy(null, null, "sometimes"));
+
+        assertThrows(IllegalArgumentException.class, () -> new MongoOperationPolicies(properties, cacheProperties));
+    }
+
+    @Test
+    void keepsCachedLookupsByIdOnThePrimary() {
+        properties.getOperations().put(Operation.FIND_BY_ID, policy("nearest", Duration.ofSeconds(90), null));
+
+        assertThrows(IllegalArgumentException.class, () -> new MongoOperationPolicies(properties, cacheProperties));
+
+        cacheProperties.setEnabled(false);
+        @SuppressWarnings("unchecked") final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        new MongoOperationPolicies(properties, cacheProperties).apply(Operation.FIND_BY_ID, collection);
+
+        Mockito.verify(collection).withReadPreference(ReadPreference.nearest(90, TimeUnit.SECONDS));
+    }
+
+    private static OperationPolicy policy(String readPreference, Duration maxStaleness, String writeConcern) {
+        final var policy = new OperationPolicy();
+        policy.setReadPreference(readPreference);
+        policy.setMaxStaleness(maxStaleness);
+        policy.setWriteConcern(writeConcern);
+        return policy;
+    }
+
+    private static MongoAction action(MongoActionOperation operation) {
+        return new MongoAction(WriteConcern.ACKNOWLEDGED, operation, "customers", Customer.class, new Document(),
+                new Document());
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.base.application.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SslSettings;
+import com.mongodb.connection.Stream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+
+class MongoWireMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MongoWireMetrics metrics = new MongoWireMetrics(registry);
+
+    @Test
+    void countsBytesWrittenAndReadPerServer() throws Exception {
+        final var delegate = mock(Stream.class);
+        when(delegate.read(anyInt())).thenReturn(new ByteBufNIO(ByteBuffer.allocate(16)));
+        final var address = new ServerAddress("mongo", 27017);
+        final var stream = metrics.wrap((socket, ssl) -> serverAddress -> delegate)
+                .create(SocketSettings.builder().build(), SslSettings.builder().build())
+                .create(address);
+
+        stream.write(List.of(new ByteBufNIO(ByteBuffer.allocate(100)), new ByteBufNIO(ByteBuffer.allocate(28))));
+        stream.read(16);
+
+        assertEquals(128, registry.get(MongoWireMetrics.SENT).tag("server.address", "mongo:27017")
+                .counter().count());
+        assertEquals(16, registry.get(MongoWireMetrics.RECEIVED).tag("server.address", "mongo:27017")
+                .counter().count());
+    }
+}
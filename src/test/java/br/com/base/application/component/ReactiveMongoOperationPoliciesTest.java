@@ -0,0 +1,32 @@
+package br.com.base.application.component;
+
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties;
+import br.com.base.application.configuration.properties.MongoClientProperties.Operation;
+import br.com.base.application.configuration.properties.MongoClientProperties.OperationPolicy;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ReactiveMongoOperationPoliciesTest {
+
+    @Test
+    void appliesTheReadPreferenceAndWriteConcernOfTheOperation() {
+        final var properties = new MongoClientProperties();
+        final var policy = new OperationPolicy();
+        policy.setReadPreference("primary");
+        policy.setWriteConcern("majority");
+        properties.getOperations().put(Operation.DELETE, policy);
+        final var policies = new ReactiveMongoOperationPolicies(
+                new MongoOperationPolicies(properties, new CustomerCacheProperties()));
+        @SuppressWarnings("unchecked") final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        Mockito.when(collection.withReadPreference(ReadPreference.primary())).thenReturn(collection);
+
+        policies.apply(Operation.DELETE, collection);
+
+        Mockito.verify(collection).withWriteConcern(WriteConcern.MAJORITY);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.base.application.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+class CustomerCodecModuleTest {
+
+    private final ObjectMapper specialized = new JacksonConfig(true).objectMapper();
+    private final ObjectMapper reflective = new JacksonConfig(false).objectMapper();
+
+    @Test
+    void customerResponseIsWrittenAsTheReflectiveSerializerWould() throws Exception {
+        final var customer = new CustomerResponse(Customer.builder().id(new ObjectId()).name("José \"Zé\"")
+                .creationDate(LocalDateTime.now()).version(2L).build());
+        final var unnamed = new CustomerResponse(Customer.builder().id(new ObjectId()).name("").build());
+
+        assertSameJson(customer);
+        assertSameJson(unnamed);
+        assertSameJson(new PageImpl<>(List.of(customer, unnamed)));
+    }
+
+    @Test
+    void customerResponseStartsWithTheId() throws Exception {
+        final var id = new ObjectId();
+
+        assertEquals("{\"id\":\"" + id + "\",\"name\":\"Ana\"}", specialized.writeValueAsString(
+                new CustomerResponse(Customer.builder().id(id).name("Ana").build())));
+    }
+
+    @Test
+    void errorResponseLeavesEmptyFieldsOut() throws Exception {
+        final var complete = ErrorResponse.as("Nome inválido").code("400").tag("name");
+        final var described = ErrorResponse.as("Cliente não encontrado");
+
+        assertSameJson(complete);
+        assertSameJson(described);
+    }
+
+    @Test
+    void payloadsReadTheNameAndIgnoreUnknownFields() throws Exception {
+        final var json = "{\"id\":\"x\",\"nested\":{\"name\":\"ignored\"},\"tags\":[1,2],\"name\":\"Maria\"}";
+
+        assertEquals("Maria", specialized.readValue(json, CreateCustomerPayload.class).getName());
+        assertEquals("Maria", specialized.readValue(json, UpdateCustomerPayload.class).getName());
+        assertEquals(reflective.readValue(json, CreateCustomerPayload.class),
+                specialized.readValue(json, CreateCustomerPayload.class));
+    }
+
+    @Test
+    void payloadsAcceptNullAndScalarNamesAsTheReflectiveDeserializerWould() throws Exception {
+        assertNull(specialized.readValue("{\"name\":null}", CreateCustomerPayload.class).getName());
+        assertEquals(reflective.readValue("{\"name\":42}", UpdateCustomerPayload.class),
+                specialized.readValue("{\"name\":42}", UpdateCustomerPayload.class));
+    }
+
+    @Test
+    void payloadsRejectWhatIsNotAnObject() {
+        assertThrows(MismatchedInputException.class, () -> specialized.readValue("[]", CreateCustomerPayload.class));
+        assertThrows(MismatchedInputException.class,
+                () -> specialized.readValue("{\"name\":{}}", UpdateCustomerPayload.class));
+    }
+
+    /**
+     * Same fields and values; the reflective serializer orders them as the JVM lists the getters.
+     */
+    private void assertSameJson(Object value) throws Exception {
+        assertEquals(reflective.readTree(reflective.writeValueAsString(value)),
+                specialized.readTree(specialized.writeValueAsString(value)));
+    }
+}
@@ -3,33 +3,57 @@ package br.com.base.application.controller;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import br.com.base.application.api.CustomerApi;
+import br.com.base.application.configuration.JacksonConfig;
 import br.com.base.application.domain.payload.CreateCustomerPayload;
 import br.com.base.application.domain.Customer;
 import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerJson;
 import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.response.RawCustomerResponse;
+import br.com.base.application.domain.search.CursorSortKey;
+import br.com.base.application.domain.search.CustomerCursor;
 import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.NameMatch;
 import br.com.base.application.exception.CustomerAlreadyExistsException;
 import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
 import br.com.base.application.exception.handler.ExceptionHandlerController;
 import br.com.base.application.helper.MockGenerator;
 import br.com.base.application.helper.TestMessageSource;
+import br.com.base.application.service.CustomerImportFormat;
+import br.com.base.application.service.CustomerImportService;
 import br.com.base.application.service.CustomerService;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,8 +68,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -60,11 +88,14 @@ class CustomerControllerTest {
     private final ObjectId id = new ObjectId();
     @MockBean
     private CustomerService service;
+    @MockBean
+    private CustomerImportService importService;
     private CreateCustomerPayload createCustomerPayload;
     private UpdateCustomerPayload updateCustomerPayload;
     private MockMvc mockMvc;
     private Customer customer;
     private CustomerResponse customerResponse;
+    private CustomerJson customerJson;
 
     @BeforeEach
     private void beforeEach() {
@@ -73,16 +104,19 @@ class CustomerControllerTest {
 
         customer = mockGenerator.generateFromJson("customer").as(Customer.class);
         customerResponse = new CustomerResponse(customer);
+        customerJson = new CustomerJson(customerResponse,
+                mockGenerator.asString(customerResponse).getBytes(StandardCharsets.UTF_8));
 
         if (mockMvc == null) {
-            mockMvc = MockMvcBuilders.standaloneSetup(new CustomerController(service))
-                    .setControllerAdvice(new ExceptionHandlerController(new TestMessageSource("Product Test")))
-                    .setMessageConverters(mockGenerator.getHttpMessageConverter())
+            mockMvc = MockMvcBuilders.standaloneSetup(new CustomerController(service, importService))
+                    .setControllerAdvice(new ExceptionHandlerController(new TestMessageSource("Product Test"),
+                            new JacksonConfig().objectMapper()))
+                    .setMessageConverters(new ByteArrayHttpMessageConverter(), mockGenerator.getHttpMessageConverter())
                     .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                     .build();
         }
 
-        reset(service);
+        reset(service, importService);
     }
 
     @Test
@@ -115,50 +149,144 @@ class CustomerControllerTest {
         verify(service, never()).create(any());
     }
 
+    @Test
+    void createAllWithSuccessStatusCode200() throws Exception {
+        final var payloads = List.of(createCustomerPayload, createCustomerPayload);
+        when(service.createAll(payloads)).thenReturn(new BatchCreateResponse(
+                List.of(BatchItemResponse.created(0, customer), BatchItemResponse.conflict(1))));
+
+        mockMvc.perform(post(BASE_URL.concat("batch")).contentType(MediaType.APPLICATION_JSON)
+                        .content(mockGenerator.asString(payloads)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.conflicts", is(1)))
+                .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.items[0].customer.id", is(customerResponse.getId())))
+                .andExpect(jsonPath("$.items[1].status", is("CONFLICT")));
+
+        verify(service).createAll(payloads);
+    }
+
     @Test
     void testUpdateWithSuccessStatusCode202() throws Exception {
-        when(service.update(id, updateCustomerPayload)).thenReturn(customerResponse);
+        when(service.update(id, null, updateCustomerPayload)).thenReturn(customerResponse);
 
         assertResult(
                 mockMvc.perform(
                                 put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON).content(mockGenerator.asString(updateCustomerPayload)))
                         .andExpect(status().isAccepted()));
 
-        verify(service).update(id, updateCustomerPayload);
+        verify(service).update(id, null, updateCustomerPayload);
+    }
+
+    @Test
+    void testUpdateWithMatchingIfMatchExpectsItsVersion() throws Exception {
+        when(service.update(id, 3L, updateCustomerPayload)).thenReturn(customerResponse);
+
+        mockMvc.perform(put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"" + id + "-3\"")
+                        .content(mockGenerator.asString(updateCustomerPayload)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.ETAG, customerResponse.getETag()));
+
+        verify(service).update(id, 3L, updateCustomerPayload);
+    }
+
+    @Test
+    void testUpdateWithAnyIfMatchExpectsNoVersion() throws Exception {
+        when(service.update(id, null, updateCustomerPayload)).thenReturn(customerResponse);
+
+        mockMvc.perform(put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .content(mockGenerator.asString(updateCustomerPayload)))
+                .andExpect(status().isAccepted());
+
+        verify(service).update(id, null, updateCustomerPayload);
+    }
+
+    @Test
+    void testUpdateWithWeakIfMatchStatusCode412() throws Exception {
+        mockMvc.perform(put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "W/\"" + id + "-3\"")
+                        .content(mockGenerator.asString(updateCustomerPayload)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(service, never()).update(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateWithStaleVersionStatusCode412() throws Exception {
+        when(service.update(id, 2L, updateCustomerPayload)).thenThrow(new CustomerVersionMismatchException());
+
+        mockMvc.perform(put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"" + id + "-2\"")
+                        .content(mockGenerator.asString(updateCustomerPayload)))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
     void testUpdateWithErrorCustomerNotFoundExceptionStatusCode404() throws Exception {
-        when(service.update(id, updateCustomerPayload)).thenThrow(new CustomerNotFoundException());
+        when(service.update(id, null, updateCustomerPayload)).thenThrow(new CustomerNotFoundException());
 
         mockMvc.perform(
                         put(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON).content(mockGenerator.asString(updateCustomerPayload)))
                 .andExpect(status().isNotFound());
 
-        verify(service).update(id, updateCustomerPayload);
+        verify(service).update(id, null, updateCustomerPayload);
     }
 
     @Test
     void findByIdWithSuccessStatusCode200() throws Exception {
-        when(service.findById(id)).thenReturn(customerResponse);
+        when(service.findJsonById(id)).thenReturn(customerJson);
 
         assertResult(
                 mockMvc.perform(
                                 get(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON))
-                        .andExpect(status().isOk()));
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"61701da494bdec3eec35d8ff-3\""))
+                        .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 20 Oct 2021 16:46:12 GMT")));
+
+        verify(service).findJsonById(id);
+    }
+
+    @Test
+    void findByIdWithMatchingETagStatusCode304() throws Exception {
+        when(service.findJsonById(id)).thenReturn(customerJson);
+
+        mockMvc.perform(get(BASE_URL.concat(id.toString()))
+                        .header(HttpHeaders.IF_NONE_MATCH, customerResponse.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void findByIdWithStaleETagStatusCode200() throws Exception {
+        when(service.findJsonById(id)).thenReturn(customerJson);
+
+        assertResult(mockMvc.perform(get(BASE_URL.concat(id.toString()))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"61701da494bdec3eec35d8ff-0\""))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void findByIdNotModifiedSinceStatusCode304() throws Exception {
+        when(service.findJsonById(id)).thenReturn(customerJson);
 
-        verify(service).findById(id);
+        mockMvc.perform(get(BASE_URL.concat(id.toString()))
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 20 Oct 2021 16:46:12 GMT"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
     void findByIdWithErrorCustomerNotFoundExceptionStatusCode404() throws Exception {
-        when(service.findById(id)).thenThrow(new CustomerNotFoundException());
+        when(service.findJsonById(id)).thenThrow(new CustomerNotFoundException());
 
         mockMvc.perform(
                         get(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(service).findById(id);
+        verify(service).findJsonById(id);
     }
 
     @Test
@@ -167,7 +295,7 @@ class CustomerControllerTest {
                         get(BASE_URL.concat("123456")).contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
 
-        verify(service, never()).findById(id);
+        verify(service, never()).findJsonById(id);
     }
 
     @Test
@@ -203,18 +331,23 @@ class CustomerControllerTest {
     @Test
     void findAllWithSuccessStatusCode200() throws Exception {
         final Pageable pageable = PageRequest.of(0, 10);
-        final Page<CustomerResponse> page = new PageImpl<>(List.of(new CustomerResponse(customer)), pageable, Integer.MAX_VALUE);
+        final var document = new RawBsonDocument(new Document("_id", customer.getId()).append("name", customer.getName()),
+                new DocumentCodec());
+        final Page<RawCustomerResponse> page = new PageImpl<>(List.of(new RawCustomerResponse(document)), pageable,
+                Integer.MAX_VALUE);
 
         given(service.findAll(any(Pageable.class), any(CustomerSearchParams.class))).willReturn(page);
 
         final CustomerSearchParams params = CustomerSearchParams.builder()
                 .name("Test")
                 .documentNumber("38372550000")
+                .nameMatch(NameMatch.PREFIX)
                 .build();
 
         mockMvc.perform(get(BASE_URL)
                         .queryParam("name", params.getName())
                         .queryParam("documentNumber", params.getDocumentNumber())
+                        .queryParam("nameMatch", params.getNameMatch().name())
                         .queryParam("page", String.valueOf(page.getNumber()))
                         .queryParam("size", String.valueOf(page.getSize())))
                 .andExpect(status().isOk())
@@ -231,12 +364,152 @@ class CustomerControllerTest {
         final CustomerSearchParams searchParam = searchParamsCaptor.getValue();
         assertEquals(params.getName(), searchParam.getName());
         assertEquals(params.getDocumentNumber(), searchParam.getDocumentNumber());
+        assertEquals(params.getNameMatch(), searchParam.getNameMatch());
 
         final Pageable pageableParam = pageableCaptor.getValue();
         assertEquals(pageable.getPageNumber(), pageableParam.getPageNumber());
         assertEquals(pageable.getPageSize(), pageableParam.getPageSize());
     }
 
+    @Test
+    void findSliceWithSuccessStatusCode200() throws Exception {
+        final Pageable pageable = PageRequest.of(0, 10);
+        given(service.findSlice(any(Pageable.class), any(CustomerSearchParams.class)))
+                .willReturn(new SliceImpl<>(List.of(customerResponse), pageable, true));
+
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "slice")
+                        .queryParam("page", "0")
+                        .queryParam("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(customerResponse.getId())))
+                .andExpect(jsonPath("$.last", is(false)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(service).findSlice(any(Pageable.class), any(CustomerSearchParams.class));
+        verify(service, never()).findAll(any(Pageable.class), any(CustomerSearchParams.class));
+    }
+
+    @Test
+    void findAllEstimatedWithSuccessStatusCode200() throws Exception {
+        final Pageable pageable = PageRequest.of(0, 10);
+        given(service.findAllEstimated(any(Pageable.class), any(CustomerSearchParams.class)))
+                .willReturn(new PageImpl<>(List.of(customerResponse), pageable, 5000));
+
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(customerResponse.getId())))
+                .andExpect(jsonPath("$.totalElements", is(5000)));
+
+        verify(service).findAllEstimated(any(Pageable.class), any(CustomerSearchParams.class));
+    }
+
+    @Test
+    void findAllByCursorWithSuccessStatusCode200() throws Exception {
+        final var next = CustomerCursor.first(Sort.by("name")).next(customer).encode();
+        given(service.findAllByCursor(any(CustomerCursor.class), anyInt(), any(CustomerSearchParams.class)))
+                .willReturn(new CursorPage<>(List.of(customerResponse), next));
+
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "cursor")
+                        .queryParam("sort", "name,asc")
+                        .queryParam("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(customerResponse.getId())))
+                .andExpect(jsonPath("$.next", is(next)));
+
+        final ArgumentCaptor<CustomerCursor> cursorCaptor = ArgumentCaptor.forClass(CustomerCursor.class);
+        verify(service).findAllByCursor(cursorCaptor.capture(), eq(1), any(CustomerSearchParams.class));
+        assertEquals(CursorSortKey.NAME, cursorCaptor.getValue().getKey());
+        assertEquals(Sort.Direction.ASC, cursorCaptor.getValue().getDirection());
+    }
+
+    @Test
+    void findAllByCursorWithNextCursorStatusCode200() throws Exception {
+        final var next = CustomerCursor.first(Sort.by(Sort.Direction.DESC, "creationDate")).next(customer);
+        given(service.findAllByCursor(any(CustomerCursor.class), anyInt(), any(CustomerSearchParams.class)))
+                .willReturn(new CursorPage<>(List.of(customerResponse), null));
+
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "cursor")
+                        .queryParam("cursor", next.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        final ArgumentCaptor<CustomerCursor> cursorCaptor = ArgumentCaptor.forClass(CustomerCursor.class);
+        verify(service).findAllByCursor(cursorCaptor.capture(), anyInt(), any(CustomerSearchParams.class));
+        assertEquals(CursorSortKey.CREATION_DATE, cursorCaptor.getValue().getKey());
+        assertEquals(customer.getId(), cursorCaptor.getValue().getLastId());
+        assertEquals(customer.getCreationDate(), cursorCaptor.getValue().value());
+    }
+
+    @Test
+    void findAllByCursorWithInvalidCursorStatusCode400() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "cursor")
+                        .queryParam("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findAllByCursor(any(), anyInt(), any());
+    }
+
+    @Test
+    void findAllByCursorWithUnsupportedSortStatusCode400() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .queryParam("mode", "cursor")
+                        .queryParam("sort", "lastModifiedDate"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findAllByCursor(any(), anyInt(), any());
+    }
+
+    @Test
+    void exportStreamsNdjsonStatusCode200() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":\"1\"}\n{\"id\":\"2\"}\n".getBytes());
+            return null;
+        }).when(service).export(any(CustomerSearchParams.class), any(OutputStream.class));
+
+        final var result = mockMvc.perform(get(BASE_URL.concat("export")).queryParam("name", "Test"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CustomerApi.NDJSON_VALUE))
+                .andExpect(content().string("{\"id\":\"1\"}\n{\"id\":\"2\"}\n"));
+
+        final ArgumentCaptor<CustomerSearchParams> searchCaptor = ArgumentCaptor.forClass(CustomerSearchParams.class);
+        verify(service).export(searchCaptor.capture(), any(OutputStream.class));
+        assertEquals("Test", searchCaptor.getValue().getName());
+    }
+
+    @Test
+    void importCsvStreamsReportStatusCode200() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write("{\"lines\":2,\"completed\":true}\n".getBytes());
+            return null;
+        }).when(importService).importCustomers(eq(CustomerImportFormat.CSV), any(), any(), any());
+
+        final var result = mockMvc.perform(post(BASE_URL.concat("import")).contentType(CustomerApi.CSV_VALUE)
+                        .content("name\nTest\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CustomerApi.NDJSON_VALUE))
+                .andExpect(content().string("{\"lines\":2,\"completed\":true}\n"));
+    }
+
+    @Test
+    void importWithUnsupportedFormatStatusCode415() throws Exception {
+        mockMvc.perform(post(BASE_URL.concat("import")).contentType(MediaType.APPLICATION_XML).content("<customers/>"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importService, never()).importCustomers(any(), any(), any(), any());
+    }
 
     private void assertResult(ResultActions resultActions) throws Exception {
         resultActions.andExpect(content().contentType(MediaType.APPLICATION_JSON))
@@ -0,0 +1,282 @@
+package br.com.base.application.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchCreateResponse;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.CursorPage;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CursorSortKey;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.exception.CustomerAlreadyExistsException;
+import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import br.com.base.application.exception.handler.ExceptionHandlerController;
+import br.com.base.application.helper.MockGenerator;
+import br.com.base.application.helper.TestMessageSource;
+import br.com.base.application.service.ReactiveCustomerService;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@TestInstance(Lifecycle.PER_CLASS)
+class ReactiveCustomerControllerTest {
+
+    private static final String BASE_URL = "/customers/";
+    @RegisterExtension
+    static MockGenerator mockGenerator = MockGenerator.instance();
+    private final ObjectId id = new ObjectId();
+    private final ReactiveCustomerService service = Mockito.mock(ReactiveCustomerService.class);
+    private WebTestClient webTestClient;
+    private CreateCustomerPayload createCustomerPayload;
+    private UpdateCustomerPayload updateCustomerPayload;
+    private Customer customer;
+    private CustomerResponse customerResponse;
+
+    @BeforeAll
+    void beforeAll() {
+        webTestClient = WebTestClient.bindToController(new ReactiveCustomerController(service))
+                .controllerAdvice(new ExceptionHandlerController(new TestMessageSource("Product Test"),
+                        new JacksonConfig().objectMapper()))
+                .argumentResolvers(configurer -> configurer.addCustomResolver(
+                        new ReactiveSortHandlerMethodArgumentResolver(), new ReactivePageableHandlerMethodArgumentResolver()))
+                .build();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        createCustomerPayload = mockGenerator.generateFromJson("createPayload").as(CreateCustomerPayload.class);
+        updateCustomerPayload = mockGenerator.generateFromJson("updatePayload").as(UpdateCustomerPayload.class);
+        customer = mockGenerator.generateFromJson("customer").as(Customer.class);
+        customerResponse = new CustomerResponse(customer);
+        reset(service);
+    }
+
+    @Test
+    void createWithSuccessStatusCode201() {
+        when(service.create(createCustomerPayload)).thenReturn(Mono.just(customerResponse));
+
+        webTestClient.post().uri(BASE_URL).contentType(MediaType.APPLICATION_JSON).bodyValue(createCustomerPayload)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(customerResponse.getId())
+                .jsonPath("$.name").isEqualTo(customerResponse.getName());
+    }
+
+    @Test
+    void createWithErrorCustomerAlreadyExistsExceptionStatusCode409() {
+        when(service.create(createCustomerPayload)).thenReturn(Mono.error(new CustomerAlreadyExistsException()));
+
+        webTestClient.post().uri(BASE_URL).contentType(MediaType.APPLICATION_JSON).bodyValue(createCustomerPayload)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorDescription").isEqualTo("Product Test");
+    }
+
+    @Test
+    void createWithBlankNameStatusCode400() {
+        createCustomerPayload.setName(" ");
+
+        webTestClient.post().uri(BASE_URL).contentType(MediaType.APPLICATION_JSON).bodyValue(createCustomerPayload)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].error").isEqualTo("name");
+
+        verify(service, never()).create(any());
+    }
+
+    @Test
+    void createAllWithSuccessStatusCode200() {
+        final var payloads = List.of(createCustomerPayload, createCustomerPayload);
+        when(service.createAll(payloads)).thenReturn(Mono.just(new BatchCreateResponse(
+                List.of(BatchItemResponse.created(0, customer), BatchItemResponse.conflict(1)))));
+
+        webTestClient.post().uri(BASE_URL.concat("batch")).contentType(MediaType.APPLICATION_JSON).bodyValue(payloads)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1)
+                .jsonPath("$.conflicts").isEqualTo(1)
+                .jsonPath("$.items[1].status").isEqualTo("CONFLICT");
+    }
+
+    @Test
+    void updateWithMatchingIfMatchExpectsItsVersion() {
+        when(service.update(id, 3L, updateCustomerPayload)).thenReturn(Mono.just(customerResponse));
+
+        webTestClient.put().uri(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"" + id + "-3\"")
+                .bodyValue(updateCustomerPayload)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, customerResponse.getETag());
+    }
+
+    @Test
+    void updateWithStaleVersionStatusCode412() {
+        when(service.update(id, 2L, updateCustomerPayload))
+                .thenReturn(Mono.error(new CustomerVersionMismatchException()));
+
+        webTestClient.put().uri(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"" + id + "-2\"")
+                .bodyValue(updateCustomerPayload)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void updateWithForeignIfMatchStatusCode412() {
+        webTestClient.put().uri(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"5f0c1e2d3b4a5968778695a4-3\"")
+                .bodyValue(updateCustomerPayload)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        verify(service, never()).update(any(), any(), any());
+    }
+
+    @Test
+    void updateWithErrorCustomerNotFoundExceptionStatusCode404() {
+        when(service.update(id, null, updateCustomerPayload)).thenReturn(Mono.error(new CustomerNotFoundException()));
+
+        webTestClient.put().uri(BASE_URL.concat(id.toString())).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateCustomerPayload)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void findByIdWithSuccessStatusCode200() {
+        when(service.findById(id)).thenReturn(Mono.just(customerResponse));
+
+        webTestClient.get().uri(BASE_URL.concat(id.toString()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(customerResponse.getId());
+    }
+
+    @Test
+    void findByIdWithMatchingETagStatusCode304() {
+        when(service.findById(id)).thenReturn(Mono.just(customerResponse));
+
+        webTestClient.get().uri(BASE_URL.concat(id.toString()))
+                .header(HttpHeaders.IF_NONE_MATCH, customerResponse.getETag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void findByIdWithErrorInvalidIdStatusCode400() {
+        webTestClient.get().uri(BASE_URL.concat("123456"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(service, never()).findById(any());
+    }
+
+    @Test
+    void deleteWithSuccessStatusCode202() {
+        when(service.delete(id)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(BASE_URL.concat(id.toString()))
+                .exchange()
+                .expectStatus().isAccepted();
+
+        verify(service).delete(id);
+    }
+
+    @Test
+    void deleteWithErrorCustomerNotFoundExceptionStatusCode404() {
+        when(service.delete(id)).thenReturn(Mono.error(new CustomerNotFoundException()));
+
+        webTestClient.delete().uri(BASE_URL.concat(id.toString()))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void findAllWithSuccessStatusCode200() {
+        final Pageable pageable = PageRequest.of(1, 5);
+        given(service.findAll(any(Pageable.class), any(CustomerSearchParams.class)))
+                .willReturn(Mono.just(new PageImpl<>(List.of(customerResponse), pageable, 6)));
+
+        webTestClient.get().uri(uri -> uri.path(BASE_URL).queryParam("name", "Test").queryParam("page", 1)
+                        .queryParam("size", 5).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(customerResponse.getId())
+                .jsonPath("$.totalElements").isEqualTo(6);
+
+        final ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        final ArgumentCaptor<CustomerSearchParams> searchCaptor = ArgumentCaptor.forClass(CustomerSearchParams.class);
+        verify(service).findAll(pageableCaptor.capture(), searchCaptor.capture());
+        assertEquals(pageable.getPageNumber(), pageableCaptor.getValue().getPageNumber());
+        assertEquals(pageable.getPageSize(), pageableCaptor.getValue().getPageSize());
+        assertEquals("Test", searchCaptor.getValue().getName());
+    }
+
+    @Test
+    void findAllByCursorWithSuccessStatusCode200() {
+        given(service.findAllByCursor(any(CustomerCursor.class), anyInt(), any(CustomerSearchParams.class)))
+                .willReturn(Mono.just(new CursorPage<>(List.of(customerResponse), null)));
+
+        webTestClient.get().uri(uri -> uri.path(BASE_URL).queryParam("mode", "cursor").queryParam("sort", "name,asc")
+                        .queryParam("size", 1).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo(customerResponse.getId());
+
+        final ArgumentCaptor<CustomerCursor> cursorCaptor = ArgumentCaptor.forClass(CustomerCursor.class);
+        verify(service).findAllByCursor(cursorCaptor.capture(), eq(1), any(CustomerSearchParams.class));
+        assertEquals(CursorSortKey.NAME, cursorCaptor.getValue().getKey());
+        assertEquals(Sort.Direction.ASC, cursorCaptor.getValue().getDirection());
+    }
+
+    @Test
+    void findAllByCursorWithInvalidCursorStatusCode400() {
+        webTestClient.get().uri(uri -> uri.path(BASE_URL).queryParam("mode", "cursor").queryParam("cursor", "not-a-cursor")
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(service, never()).findAllByCursor(any(), anyInt(), any());
+    }
+}
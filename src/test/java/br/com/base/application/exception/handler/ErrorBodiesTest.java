@@ -0,0 +1,82 @@
+package br.com.base.application.exception.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.exception.CustomerAlreadyExistsException;
+import br.com.base.application.exception.CustomerNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+
+class ErrorBodiesTest {
+
+    private static final Locale PT_BR = new Locale("pt", "BR");
+
+    private final MessageSource messageSource = mock(MessageSource.class);
+    private final ErrorBodies errorBodies = new ErrorBodies(messageSource, new JacksonConfig().objectMapper());
+
+    @Test
+    void businessErrorBodyIsResolvedOncePerTypeAndLocale() {
+        when(messageSource.getMessage(eq("CustomerNotFoundException.message"), isNull(), eq(PT_BR)))
+                .thenReturn("Cliente não encontrado");
+        when(messageSource.getMessage(eq("CustomerNotFoundException.message"), isNull(), eq(Locale.ENGLISH)))
+                .thenReturn("Customer not found");
+        when(messageSource.getMessage(eq("CustomerAlreadyExistsException.message"), isNull(), eq(PT_BR)))
+                .thenReturn("Cliente já existe");
+
+        final var response = errorBodies.response(HttpStatus.NOT_FOUND, CustomerNotFoundException.class, PT_BR);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{\"errorDescription\":\"Cliente não encontrado\"}", body(response));
+        assertSame(response, errorBodies.response(HttpStatus.NOT_FOUND, CustomerNotFoundException.class, PT_BR));
+        assertEquals("{\"errorDescription\":\"Customer not found\"}", body(errorBodies.response(HttpStatus.NOT_FOUND,
+                CustomerNotFoundException.class, Locale.ENGLISH)));
+        assertEquals("{\"errorDescription\":\"Cliente já existe\"}", body(errorBodies.response(HttpStatus.CONFLICT,
+                CustomerAlreadyExistsException.class, PT_BR)));
+        verify(messageSource).getMessage("CustomerNotFoundException.message", null, PT_BR);
+    }
+
+    @Test
+    void bindingMessageIsResolvedOncePerCodeAndDefaultMessage() {
+        final var blank = fieldError("NotBlank", "must not be blank");
+        final var tooLong = fieldError("Size", "size must be at most 120");
+        when(messageSource.getMessage(any(FieldError.class), eq(PT_BR)))
+                .thenAnswer(invocation -> ((FieldError) invocation.getArgument(0)).getDefaultMessage());
+
+        assertEquals("must not be blank", errorBodies.message(blank, PT_BR));
+        assertEquals("must not be blank", errorBodies.message(fieldError("NotBlank", "must not be blank"), PT_BR));
+        assertEquals("size must be at most 120", errorBodies.message(tooLong, PT_BR));
+
+        verify(messageSource, times(2)).getMessage(any(FieldError.class), eq(PT_BR));
+    }
+
+    @Test
+    void businessExceptionsRecordNoStackTrace() {
+        assertEquals(0, new CustomerNotFoundException().getStackTrace().length);
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private static FieldError fieldError(String constraint, String defaultMessage) {
+        return new FieldError("createCustomerPayload", "name", null, false,
+                new String[] {constraint + ".createCustomerPayload.name", constraint + ".name", constraint}, null,
+                defaultMessage);
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.base.application.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import br.com.base.application.loadtest.LoadTestProperties.Operation;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Drives the customer API of the whole application, Mongo replaced by {@link InMemoryCustomerRepository}, with a mix
+ * of operations and reports the throughput and latency percentiles of each. Runs offline with
+ * {@code mvn test -Pload-test -Dtest=CustomerApiLoadTest}, tuned by the {@link LoadTestProperties} system properties.
+ */
+@Tag("load")
+@ActiveProfiles("in-memory")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class CustomerApiLoadTest {
+
+    private static final int ID_SAMPLE = 100_000;
+    private static final int LIST_PAGES = 10;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Autowired
+    private InMemoryCustomerRepository repository;
+
+    @LocalServerPort
+    private int port;
+
+    private final AtomicLong names = new AtomicLong();
+    private final AtomicInteger deletes = new AtomicInteger();
+    private List<ObjectId> ids;
+
+    @Test
+    void reportsThroughputAndLatencyPerOperation() throws Exception {
+        ids = repository.ids(ID_SAMPLE);
+        final var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+
+        run(client, properties.getWarmUpRequests());
+        final var run = run(client, properties.getRequests());
+
+        System.out.printf("%d customers, %s repository latency, %d in flight, mix %s%n", properties.getCustomers(),
+                properties.getLatency(), properties.getConcurrency(), properties.getMix());
+        System.out.println("all: " + run.report(null));
+        for (var operation : Operation.values()) {
+            if (run.count(operation) > 0) {
+                System.out.println(operation.name().toLowerCase() + ": " + run.report(operation));
+            }
+        }
+        assertEquals(0, run.errors.get(), "requests failed with an unexpected status");
+    }
+
+    private Run run(HttpClient client, int requests) throws Exception {
+        final var run = new Run(requests);
+        final var permits = new Semaphore(properties.getConcurrency());
+        final var futures = new CompletableFuture<?>[requests];
+        final var start = System.nanoTime();
+        for (int index = 0; index < requests; index++) {
+            permits.acquire();
+            final var operation = next();
+            final var position = index;
+            final var sent = System.nanoTime();
+            futures[index] = client.sendAsync(request(operation), BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        run.record(position, operation, System.nanoTime() - sent);
+                        if (error != null || !expected(operation, response.statusCode())) {
+                            run.errors.incrementAndGet();
+                        }
+                        permits.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        run.elapsed = System.nanoTime() - start;
+        return run;
+    }
+
+    private Operation next() {
+        final var mix = properties.getMix();
+        var choice = ThreadLocalRandom.current().nextInt(mix.values().stream().mapToInt(Integer::intValue).sum());
+        for (var entry : mix.entrySet()) {
+            choice -= entry.getValue();
+            if (choice < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load mix");
+    }
+
+    /**
+     * Reads and updates address the first half of the sampled customers, deletes consume the second half, so most
+     * reads find their customer.
+     */
+    private HttpRequest request(Operation operation) {
+        final var base = "http://localhost:" + port + "/customers";
+        final var random = ThreadLocalRandom.current();
+        switch (operation) {
+            case CREATE:
+                return json(URI.create(base)).POST(BodyPublishers.ofString(name("Load"))).build();
+            case READ:
+                return HttpRequest.newBuilder(URI.create(base + "/" + ids.get(random.nextInt(half())))).GET().build();
+            case UPDATE:
+                return json(URI.create(base + "/" + ids.get(random.nextInt(half()))))
+                        .PUT(BodyPublishers.ofString(name("Updated"))).build();
+            case DELETE:
+                final var id = ids.get(half() + Math.floorMod(deletes.getAndIncrement(), ids.size() - half()));
+                return HttpRequest.newBuilder(URI.create(base + "/" + id)).DELETE().build();
+            default:
+                return HttpRequest.newBuilder(URI.create(base + "?size=20&page=" + random.nextInt(LIST_PAGES)))
+                        .GET().build();
+        }
+    }
+
+    private int half() {
+        return Math.max(1, ids.size() / 2);
+    }
+
+    private String name(String prefix) {
+        return "{\"name\":\"" + prefix + " " + names.incrementAndGet() + "\"}";
+    }
+
+    private static HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Content-Type", "application/json");
+    }
+
+    /**
+     * Customers deleted earlier in the run are legitimately not found.
+     */
+    private static boolean expected(Operation operation, int status) {
+        switch (operation) {
+            case CREATE:
+                return status == 201;
+            case LIST:
+                return status == 200;
+            case READ:
+                return status == 200 || status == 404;
+            default:
+                return status == 202 || status == 404;
+        }
+    }
+
+    private static final class Run {
+
+        private final long[] latencies;
+        private final Operation[] operations;
+        private final AtomicInteger errors = new AtomicInteger();
+        private long elapsed;
+
+        private Run(int requests) {
+            this.latencies = new long[requests];
+            this.operations = new Operation[requests];
+        }
+
+        private void record(int position, Operation operation, long latency) {
+            latencies[position] = latency;
+            operations[position] = operation;
+        }
+
+        private long count(Operation operation) {
+            return Arrays.stream(operations).filter(operation::equals).count();
+        }
+
+        /**
+         * The throughput of an operation is its share of the whole run.
+         */
+        private LatencyReport report(Operation operation) {
+            if (operation == null) {
+                return new LatencyReport(latencies.clone(), elapsed);
+            }
+            final var selected = new ArrayList<Long>();
+            for (int index = 0; index < latencies.length; index++) {
+                if (operations[index] == operation) {
+                    selected.add(latencies[index]);
+                }
+            }
+            return new LatencyReport(selected.stream().mapToLong(Long::longValue).toArray(), elapsed);
+        }
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties(LoadTestProperties.class)
+    static class InMemoryRepositoryConfig {
+
+        @Bean
+        InMemoryCustomerRepository customerRepository(LoadTestProperties properties) {
+            final var repository = new InMemoryCustomerRepository(properties.getLatency(), properties.getJitter());
+            repository.load(SyntheticCustomers.generate(properties.getCustomers(), properties.getSeed()));
+            return repository;
+        }
+    }
+}
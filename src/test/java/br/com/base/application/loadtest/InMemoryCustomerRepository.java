@@ -0,0 +1,425 @@
+package br.com.base.application.loadtest;
+
+import static java.util.stream.Collectors.toList;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CursorSortKey;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.NameMatch;
+import br.com.base.application.domain.search.SearchNames;
+import br.com.base.application.repository.CustomerRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+/**
+ * Stand-in for the Mongo repository, keeping the customers in memory with the same unique name constraint, sorts and
+ * name matching. Every call waits the configured latency first, like a round trip to Mongo would.
+ */
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private static final DocumentCodec CODEC = new DocumentCodec();
+    private static final Map<String, Comparator<Customer>> COMPARATORS = Map.of(
+            "id", Comparator.comparing(Customer::getId),
+            "name", Comparator.comparing(Customer::getName, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "creationDate", Comparator.comparing(Customer::getCreationDate,
+                    Comparator.nullsFirst(Comparator.naturalOrder())),
+            "lastModifiedDate", Comparator.comparing(Customer::getLastModifiedDate,
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+
+    private final ConcurrentSkipListMap<ObjectId, Customer> customers = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, ObjectId> names = new ConcurrentHashMap<>();
+    private final Duration latency;
+    private final Duration jitter;
+
+    public InMemoryCustomerRepository(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Loads customers without latency, for seeding.
+     */
+    public void load(Stream<Customer> seed) {
+        seed.forEach(customer -> {
+            if (names.putIfAbsent(customer.getName(), customer.getId()) == null) {
+                customers.put(customer.getId(), customer);
+            }
+        });
+    }
+
+    /**
+     * Up to {@code limit} ids, in ascending order, for the load to address existing customers.
+     */
+    public List<ObjectId> ids(int limit) {
+        return customers.keySet().stream().limit(limit).collect(toList());
+    }
+
+    @Override
+    public List<Customer> findByNameIn(Collection<String> names) {
+        pause();
+        return names.stream()
+                .map(this.names::get)
+                .filter(id -> id != null)
+                .map(id -> Customer.builder().id(id).name(customers.get(id).getName()).build())
+                .collect(toList());
+    }
+
+    @Override
+    public <S extends Customer> S insert(S customer) {
+        pause();
+        return store(customer);
+    }
+
+    @Override
+    public <S extends Customer> List<S> insert(Iterable<S> customers) {
+        pause();
+        return StreamSupport.stream(customers.spliterator(), false).map(this::store).collect(toList());
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<Customer> customers) {
+        pause();
+        final var rejected = new HashSet<Integer>();
+        for (int index = 0; index < customers.size(); index++) {
+            try {
+                store(customers.get(index));
+            } catch (DuplicateKeyException exception) {
+                rejected.add(index);
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public <S extends Customer> S save(S customer) {
+        pause();
+        if (customer.getId() == null || !customers.containsKey(customer.getId())) {
+            return store(customer);
+        }
+        replace(customers.get(customer.getId()), customer);
+        return customer;
+    }
+
+    @Override
+    public <S extends Customer> List<S> saveAll(Iterable<S> customers) {
+        return StreamSupport.stream(customers.spliterator(), false).map(this::save).collect(toList());
+    }
+
+    @Override
+    public Optional<Customer> findById(ObjectId id) {
+        pause();
+        return Optional.ofNullable(customers.get(id));
+    }
+
+    @Override
+    public Optional<Customer> findOneById(ObjectId id) {
+        return findById(id);
+    }
+
+    @Override
+    public boolean existsById(ObjectId id) {
+        pause();
+        return customers.containsKey(id);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        pause();
+        return List.copyOf(customers.values());
+    }
+
+    @Override
+    public List<Customer> findAll(Sort sort) {
+        pause();
+        return matches(new CustomerSearchParams(), sort).collect(toList());
+    }
+
+    @Override
+    public Page<Customer> findAll(Pageable pageable) {
+        pause();
+        final var content = page(matches(new CustomerSearchParams(), pageable.getSort()), pageable).collect(toList());
+        return PageableExecutionUtils.getPage(content, pageable, customers::size);
+    }
+
+    @Override
+    public Iterable<Customer> findAllById(Iterable<ObjectId> ids) {
+        pause();
+        return StreamSupport.stream(ids.spliterator(), false).map(customers::get).filter(customer -> customer != null)
+                .collect(toList());
+    }
+
+    @Override
+    public long count() {
+        pause();
+        return customers.size();
+    }
+
+    @Override
+    public List<Customer> findAfter(CustomerSearchParams search, CustomerCursor cursor, int limit) {
+        pause();
+        if (cursor.getKey() == CursorSortKey.ID) {
+            final var ascending = cursor.getDirection().isAscending();
+            final NavigableMap<ObjectId, Customer> from = cursor.isFirst() ? customers
+                    : ascending ? customers.tailMap(cursor.getLastId(), false)
+                            : customers.headMap(cursor.getLastId(), false);
+            return (ascending ? from : from.descendingMap()).values().stream()
+                    .filter(nameMatches(search))
+                    .limit(limit)
+                    .collect(toList());
+        }
+        final var comparator = comparator(cursor.sort());
+        final var position = cursor.isFirst() ? null : position(cursor);
+        return matches(search, cursor.sort())
+                .filter(customer -> position == null || comparator.compare(customer, position) > 0)
+                .limit(limit)
+                .collect(toList());
+    }
+
+    @Override
+    public Stream<Customer> streamAll(CustomerSearchParams search, int batchSize) {
+        pause();
+        return matches(search, Sort.by("id"));
+    }
+
+    @Override
+    public Page<RawBsonDocument> findRawPage(CustomerSearchParams search, Pageable pageable) {
+        pause();
+        final var content = page(matches(search, pageable.getSort()), pageable)
+                .map(customer -> new RawBsonDocument(new Document("_id", customer.getId())
+                        .append("name", customer.getName()), CODEC))
+                .collect(toList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(search));
+    }
+
+    @Override
+    public Slice<Customer> findSlice(CustomerSearchParams search, Pageable pageable) {
+        pause();
+        final var sorted = matches(search, pageable.getSort());
+        final var content = (pageable.isPaged()
+                ? sorted.skip(pageable.getOffset()).limit(pageable.getPageSize() + 1L) : sorted).collect(toList());
+        final var hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public long estimateCount(CustomerSearchParams search) {
+        pause();
+        return count(search);
+    }
+
+    @Override
+    public synchronized Optional<Customer> updateName(ObjectId id, String name, Long expectedVersion) {
+        pause();
+        final var current = customers.get(id);
+        final long version = current == null || current.getVersion() == null ? 0 : current.getVersion();
+        if (current == null || expectedVersion != null && expectedVersion != version) {
+            return Optional.empty();
+        }
+        final var updated = Customer.builder()
+                .id(id)
+                .name(name)
+                .searchName(SearchNames.normalize(name))
+                .creationDate(current.getCreationDate())
+                .lastModifiedDate(LocalDateTime.now())
+                .version(version + 1)
+                .build();
+        replace(current, updated);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public synchronized boolean deleteOneById(ObjectId id) {
+        pause();
+        final var removed = customers.remove(id);
+        if (removed != null) {
+            names.remove(removed.getName(), id);
+        }
+        return removed != null;
+    }
+
+    @Override
+    public void deleteById(ObjectId id) {
+        deleteOneById(id);
+    }
+
+    @Override
+    public void delete(Customer customer) {
+        deleteOneById(customer.getId());
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Customer> customers) {
+        customers.forEach(this::delete);
+    }
+
+    @Override
+    public synchronized void deleteAll() {
+        pause();
+        customers.clear();
+        names.clear();
+    }
+
+    @Override
+    public long backfillSearchNames(int batchSize) {
+        return 0;
+    }
+
+    @Override
+    public <S extends Customer> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Customer> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Customer> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Customer> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Customer> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Customer> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    private synchronized <S extends Customer> S store(S customer) {
+        if (customer.getId() == null) {
+            customer.setId(new ObjectId());
+        }
+        if (names.putIfAbsent(customer.getName(), customer.getId()) != null || customers.containsKey(customer.getId())) {
+            throw new DuplicateKeyException("Duplicate customer " + customer.getName());
+        }
+        final var now = LocalDateTime.now();
+        customer.setSearchName(SearchNames.normalize(customer.getName()));
+        customer.setCreationDate(now);
+        customer.setLastModifiedDate(now);
+        customers.put(customer.getId(), customer);
+        return customer;
+    }
+
+    private synchronized void replace(Customer current, Customer updated) {
+        if (!current.getName().equals(updated.getName())) {
+            if (names.putIfAbsent(updated.getName(), updated.getId()) != null) {
+                throw new DuplicateKeyException("Duplicate customer " + updated.getName());
+            }
+            names.remove(current.getName(), current.getId());
+        }
+        customers.put(updated.getId(), updated);
+    }
+
+    private long count(CustomerSearchParams search) {
+        return search.getName() == null ? customers.size() : matches(search, Sort.unsorted()).count();
+    }
+
+    /**
+     * The map is ordered by id, so only sorts on other properties sort the matches.
+     */
+    private Stream<Customer> matches(CustomerSearchParams search, Sort sort) {
+        final var byId = sort.getOrderFor("id");
+        if (sort.isUnsorted() || byId != null && sort.toList().size() == 1) {
+            final var source = byId != null && byId.isDescending() ? customers.descendingMap() : customers;
+            return source.values().stream().filter(nameMatches(search));
+        }
+        return customers.values().stream().filter(nameMatches(search)).sorted(comparator(sort));
+    }
+
+    private static Predicate<Customer> nameMatches(CustomerSearchParams search) {
+        final var name = search.getName();
+        if (name == null) {
+            return customer -> true;
+        }
+        final var nameMatch = search.getNameMatch() == null ? NameMatch.EXACT : search.getNameMatch();
+        final var normalized = SearchNames.normalize(name);
+        switch (nameMatch) {
+            case IGNORE_CASE:
+                return customer -> normalized.equals(customer.getSearchName());
+            case PREFIX:
+                return customer -> customer.getSearchName() != null && customer.getSearchName().startsWith(normalized);
+            case TEXT:
+                final var words = Set.of(normalized.split("\\s+"));
+                return customer -> customer.getSearchName() != null
+                        && Arrays.stream(customer.getSearchName().split("\\s+")).anyMatch(words::contains);
+            default:
+                return customer -> name.equals(customer.getName());
+        }
+    }
+
+    private static Stream<Customer> page(Stream<Customer> sorted, Pageable pageable) {
+        return pageable.isPaged() ? sorted.skip(pageable.getOffset()).limit(pageable.getPageSize()) : sorted;
+    }
+
+    private static Comparator<Customer> comparator(Sort sort) {
+        Comparator<Customer> comparator = (left, right) -> 0;
+        for (var order : sort) {
+            final var property = COMPARATORS.get(order.getProperty());
+            if (property == null) {
+                throw new UnsupportedOperationException("Unsupported sort property " + order.getProperty());
+            }
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator;
+    }
+
+    private static Customer position(CustomerCursor cursor) {
+        final var position = Customer.builder().id(cursor.getLastId());
+        if (cursor.getKey() == CursorSortKey.NAME) {
+            position.name((String) cursor.value());
+        } else if (cursor.getKey() == CursorSortKey.CREATION_DATE) {
+            position.creationDate((LocalDateTime) cursor.value());
+        }
+        return position.build();
+    }
+
+    private void pause() {
+        final var jitterNanos = jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toNanos());
+        final var deadline = System.nanoTime() + latency.toNanos() + jitterNanos;
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Query by example is not supported in memory");
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.base.application.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Throughput and latency percentiles of a run.
+ */
+final class LatencyReport {
+
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final double throughput;
+
+    /**
+     * @param latencies latency of each request, in nanoseconds. Sorted in place.
+     * @param elapsed   duration of the run, in nanoseconds.
+     */
+    LatencyReport(long[] latencies, long elapsed) {
+        Arrays.sort(latencies);
+        this.p50 = percentile(latencies, 0.50);
+        this.p99 = percentile(latencies, 0.99);
+        this.p999 = percentile(latencies, 0.999);
+        this.throughput = latencies.length / (elapsed / 1e9);
+    }
+
+    double throughput() {
+        return throughput;
+    }
+
+    long p99() {
+        return p99;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.0f req/s, p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms", throughput, p50 / 1e6, p99 / 1e6,
+                p999 / 1e6);
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.base.application.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of {@link CustomerApiLoadTest}, overridable as system properties, e.g. {@code -Dloadtest.customers=5000000}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    /**
+     * Customers seeded before the load starts.
+     */
+    private long customers = 100_000;
+
+    /**
+     * Seed of the synthetic customers.
+     */
+    private long seed = 42;
+
+    /**
+     * Latency added to every repository call, standing in for a Mongo round trip.
+     */
+    private Duration latency = Duration.ofMillis(1);
+
+    /**
+     * Upper bound of a random latency added on top of {@link #latency}.
+     */
+    private Duration jitter = Duration.ZERO;
+
+    /**
+     * Requests in flight at any time.
+     */
+    private int concurrency = 64;
+
+    /**
+     * Requests sent, and not measured, before the measured ones.
+     */
+    private int warmUpRequests = 2_000;
+
+    private int requests = 20_000;
+
+    /**
+     * Relative weight of each operation in the load.
+     */
+    private Map<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.CREATE, 10,
+            Operation.READ, 50,
+            Operation.UPDATE, 10,
+            Operation.DELETE, 5,
+            Operation.LIST, 25));
+
+    public enum Operation {
+        CREATE, READ, UPDATE, DELETE, LIST
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.base.application.loadtest;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.SearchNames;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+
+/**
+ * Generates any number of distinct customers, the same ones for the same seed, with ids and creation dates in
+ * insertion order as Mongo would have them.
+ */
+final class SyntheticCustomers {
+
+    private static final String[] FIRST_NAMES = {"Ana", "João", "Maria", "José", "Antônio", "Francisca", "Carlos",
+            "Paulo", "Lúcia", "Márcia", "Luiz", "Sebastião", "Fernanda", "Gabriel", "Letícia", "Rafael"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Araújo", "Conceição", "Ribeiro", "Carvalho", "Almeida", "Simões"};
+
+    private SyntheticCustomers() {
+    }
+
+    static Stream<Customer> generate(long count, long seed) {
+        final var random = new Random(seed);
+        final var start = LocalDateTime.now().minusSeconds(count);
+        final var timestamp = (int) (System.currentTimeMillis() / 1000 - count);
+        return LongStream.range(0, count).mapToObj(index -> {
+            final var name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + index;
+            final var creationDate = start.plusSeconds(index);
+            return Customer.builder()
+                    .id(new ObjectId(timestamp + (int) index, (int) (index & 0xffffff)))
+                    .name(name)
+                    .searchName(SearchNames.normalize(name))
+                    .creationDate(creationDate)
+                    .lastModifiedDate(creationDate)
+                    .build();
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.base.application.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.configuration.VirtualThreadConfig;
+import br.com.base.application.controller.CustomerController;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.response.CustomerJson;
+import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.exception.handler.ExceptionHandlerController;
+import br.com.base.application.service.CustomerImportService;
+import br.com.base.application.service.CustomerService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Compares the servlet stack on a bounded Tomcat pool of platform threads against one virtual thread per request,
+ * with a service that blocks like a Mongo round trip. Run with {@code mvn test -Pload-test} on a Java 21 runtime.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Duration MONGO_LATENCY = Duration.ofMillis(50);
+    private static final int PLATFORM_THREADS = 50;
+    private static final int CONCURRENCY = 400;
+    private static final int WARM_UP_REQUESTS = 400;
+    private static final int REQUESTS = 4000;
+
+    @Test
+    void virtualThreadsServeConcurrencyBeyondThePoolSizeAtMongoLatency() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require a Java 21 runtime");
+
+        final var platform = run(false);
+        final var virtual = run(true);
+        System.out.println("platform threads (" + PLATFORM_THREADS + "): " + platform);
+        System.out.println("virtual threads: " + virtual);
+
+        assertTrue(virtual.throughput() > platform.throughput(), "virtual threads should not be bound by the pool size");
+        assertTrue(virtual.p99() < platform.p99(), "virtual threads should cut the queueing tail latency");
+    }
+
+    private LatencyReport run(boolean virtualThreads) throws Exception {
+        try (var context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "spring.main.banner-mode=off",
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "customer.execution.virtual-threads=" + virtualThreads)
+                .run()) {
+            final var port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            final var uri = URI.create("http://localhost:" + port + "/customers/" + new ObjectId());
+            final var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newFixedThreadPool(8))
+                    .build();
+            load(client, uri, WARM_UP_REQUESTS);
+            return load(client, uri, REQUESTS);
+        }
+    }
+
+    private LatencyReport load(HttpClient client, URI uri, int requests) throws Exception {
+        final var request = HttpRequest.newBuilder(uri).GET().build();
+        final var latencies = new long[requests];
+        final var permits = new Semaphore(CONCURRENCY);
+        final var futures = new CompletableFuture<?>[requests];
+        final var start = System.nanoTime();
+        for (int index = 0; index < requests; index++) {
+            permits.acquire();
+            final var sent = System.nanoTime();
+            final var position = index;
+            futures[index] = client.sendAsync(request, BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[position] = System.nanoTime() - sent;
+                permits.release();
+                assertEquals(200, response.statusCode());
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+        return new LatencyReport(latencies, System.nanoTime() - start);
+    }
+
+    @TestConfiguration
+    @ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class, MessageSourceAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class})
+    @Import({JacksonConfig.class, VirtualThreadConfig.class, CustomerController.class, ExceptionHandlerController.class})
+    static class LoadTestApplication {
+
+        @Bean
+        CustomerImportService customerImportService() {
+            return Mockito.mock(CustomerImportService.class);
+        }
+
+        @Bean
+        CustomerService customerService() {
+            final var response = new CustomerResponse(Customer.builder().id(new ObjectId()).name("Load").build());
+            final var json = new CustomerJson(response, "{\"name\":\"Load\"}".getBytes(StandardCharsets.UTF_8));
+            return new CustomerService(null, null, null, null, null) {
+                @Override
+                public CustomerJson findJsonById(ObjectId id) {
+                    try {
+                        Thread.sleep(MONGO_LATENCY.toMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return json;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.base.application.logging;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.base.application.configuration.JacksonConfig;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.nio.charset.StandardCharsets;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The encoder as configured in logback-spring.xml.
+ */
+class LogstashEncoderTest {
+
+    @Test
+    void writesObjectIdArgumentsAsHexStrings() {
+        final var context = new LoggerContext();
+        final var encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setJsonFactoryDecorator(new JacksonConfig());
+        encoder.start();
+        final var id = new ObjectId();
+
+        final var json = new String(encoder.encode(new LoggingEvent(getClass().getName(), context.getLogger("test"),
+                Level.INFO, "Find customer - Id: {}", null, new Object[]{kv("Id", id)})), StandardCharsets.UTF_8);
+
+        assertTrue(json.contains("\"Id\":\"" + id + "\""), json);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.base.application.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+class PayloadSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final PayloadSamplingFilter filter = new PayloadSamplingFilter();
+
+    PayloadSamplingFilterTest() {
+        filter.setLogger("br.com.base.application.service");
+        filter.setRate(0);
+    }
+
+    @Test
+    void dropsPayloadEventsOutOfTheSample() {
+        assertEquals(FilterReply.DENY, decide("br.com.base.application.service.CustomerService", Level.INFO));
+    }
+
+    @Test
+    void keepsPayloadEventsInTheSample() {
+        filter.setRate(1);
+
+        assertEquals(FilterReply.NEUTRAL, decide("br.com.base.application.service.CustomerService", Level.INFO));
+    }
+
+    @Test
+    void keepsWarningsAndErrors() {
+        assertEquals(FilterReply.NEUTRAL, decide("br.com.base.application.service.CustomerService", Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide("br.com.base.application.service.CustomerService", Level.ERROR));
+    }
+
+    @Test
+    void keepsOtherLoggersAndUnmarkedEvents() {
+        assertEquals(FilterReply.NEUTRAL, decide("br.com.base.application.serviceX", Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(MarkerFactory.getMarker("OTHER"),
+                context.getLogger("br.com.base.application.service.CustomerService"), Level.INFO, "", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null,
+                context.getLogger("br.com.base.application.service.CustomerService"), Level.INFO, "", null, null));
+    }
+
+    private FilterReply decide(String logger, Level level) {
+        return filter.decide(PayloadSamplingFilter.PAYLOAD, context.getLogger(logger), level, "", null, null);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.base.application.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import br.com.base.application.configuration.properties.MigrationProperties;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.Indexes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class IndexMigrationRunnerTest {
+
+    private static final IndexMigration FIRST = migration(1);
+    private static final IndexMigration SECOND = migration(2);
+
+    private final MongoTemplate mongoTemplate = Mockito.mock(MongoTemplate.class);
+    private final MigrationLedger ledger = Mockito.mock(MigrationLedger.class);
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+    private final IndexMigrationRunner runner = new IndexMigrationRunner(mongoTemplate, ledger,
+            new MigrationProperties(), Runnable::run);
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(mongoTemplate.getCollection(CustomerIndexMigrations.COLLECTION)).thenReturn(collection);
+        Mockito.when(ledger.lock(eq(MigrationLedger.INDEXES), anyString(), any())).thenReturn(true);
+    }
+
+    @Test
+    void appliesOnlyThePendingVersionsInOrder() {
+        Mockito.when(ledger.appliedVersions()).thenReturn(Set.of(1));
+
+        assertEquals(1, runner.migrate(List.of(SECOND, FIRST)));
+
+        Mockito.verify(collection).createIndexes(SECOND.getIndexes());
+        Mockito.verify(collection, Mockito.never()).createIndexes(FIRST.getIndexes());
+        Mockito.verify(ledger).record(eq(SECOND), anyString(), any());
+        Mockito.verify(ledger, Mockito.never()).record(eq(FIRST), anyString(), any());
+        Mockito.verify(ledger).unlock(eq(MigrationLedger.INDEXES), anyString());
+    }
+
+    @Test
+    void buildsNothingWhenAnotherNodeHoldsTheLock() {
+        Mockito.when(ledger.lock(eq(MigrationLedger.INDEXES), anyString(), any())).thenReturn(false);
+
+        assertEquals(0, runner.migrate(List.of(FIRST)));
+
+        Mockito.verifyNoInteractions(collection);
+        Mockito.verify(ledger, Mockito.never()).appliedVersions();
+        Mockito.verify(ledger, Mockito.never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    void releasesTheLockAndRecordsNothingWhenABuildFails() {
+        Mockito.when(ledger.appliedVersions()).thenReturn(Set.of());
+        Mockito.when(collection.createIndexes(FIRST.getIndexes())).thenThrow(new MongoException("Index build failed"));
+
+        assertThrows(MongoException.class, () -> runner.migrate(List.of(FIRST, SECOND)));
+
+        Mockito.verify(collection, Mockito.never()).createIndexes(SECOND.getIndexes());
+        Mockito.verify(ledger, Mockito.never()).record(any(), anyString(), any());
+        Mockito.verify(ledger).unlock(eq(MigrationLedger.INDEXES), anyString());
+    }
+
+    @Test
+    void stopsWithoutRecordingWhenTheLockIsLostDuringABuild() {
+        final var properties = new MigrationProperties();
+        properties.setProgressInterval(Duration.ofMillis(10));
+        final var builder = Executors.newSingleThreadExecutor();
+        final var building = new CountDownLatch(1);
+        final var runner = new IndexMigrationRunner(mongoTemplate, ledger, properties, builder);
+        Mockito.when(ledger.appliedVersions()).thenReturn(Set.of());
+        Mockito.when(ledger.lock(eq(MigrationLedger.INDEXES), anyString(), any())).thenReturn(true, false);
+        Mockito.when(collection.createIndexes(FIRST.getIndexes())).thenAnswer(invocation -> {
+            building.await();
+            return List.of();
+        });
+
+        try {
+            assertThrows(IllegalStateException.class, () -> runner.migrate(List.of(FIRST)));
+        } finally {
+            building.countDown();
+            builder.shutdown();
+        }
+
+        Mockito.verify(ledger, Mockito.never()).record(any(), anyString(), any());
+        Mockito.verify(ledger).unlock(eq(MigrationLedger.INDEXES), anyString());
+    }
+
+    @Test
+    void customerMigrationsHaveUniqueVersions() {
+        assertEquals(CustomerIndexMigrations.ALL.size(),
+                CustomerIndexMigrations.ALL.stream().map(IndexMigration::getVersion).distinct().count());
+    }
+
+    private static IndexMigration migration(int version) {
+        return new IndexMigration(version, "Version " + version, CustomerIndexMigrations.COLLECTION,
+                List.of(new IndexModel(Indexes.ascending("field" + version))));
+    }
+}
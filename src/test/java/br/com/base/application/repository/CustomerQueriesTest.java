@@ -0,0 +1,123 @@
+package br.com.base.application.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.search.CustomerCursor;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.domain.search.NameMatch;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+class CustomerQueriesTest {
+
+    @Test
+    void exactMatchUsesTheStoredName() {
+        final var query = CustomerQueries.search(search("José", NameMatch.EXACT));
+
+        assertEquals(new Document("name", "José"), filter(query.getQueryObject()));
+    }
+
+    @Test
+    void ignoreCaseMatchUsesTheNormalizedName() {
+        final var query = CustomerQueries.search(search("JOSÉ Souza", NameMatch.IGNORE_CASE));
+
+        assertEquals(new Document("searchName", "jose souza"), filter(query.getQueryObject()));
+    }
+
+    @Test
+    void prefixMatchIsAnAnchoredRegexWithEscapedSymbols() {
+        final var query = CustomerQueries.search(search("Ana.(", NameMatch.PREFIX));
+
+        final var regex = (Pattern) filter(query.getQueryObject()).get("searchName");
+        assertEquals("^ana\\.\\(", regex.pattern());
+        assertTrue(regex.matcher("ana.(maria").find());
+        assertFalse(regex.matcher("anax(maria").find());
+    }
+
+    @Test
+    void textMatchIsATopLevelTextSearch() {
+        final var query = CustomerQueries.search(search("maria", NameMatch.TEXT));
+
+        assertEquals(new Document("$text", new Document("$search", "maria")), query.getQueryObject());
+    }
+
+    @Test
+    void missingNameMatchesEverything() {
+        assertTrue(CustomerQueries.search(new CustomerSearchParams()).getQueryObject().isEmpty());
+    }
+
+    @Test
+    void searchNameIsDerivedFromTheName() {
+        final var customer = Customer.builder().name("Ângela Müller").build();
+
+        CustomerSearchNameCallback.normalize(customer);
+
+        assertEquals("angela muller", customer.getSearchName());
+    }
+
+    @Test
+    void backfillOnlyMatchesTheNameItRead() {
+        final var id = new ObjectId();
+
+        assertEquals(new Document("id", id).append("name", "Ana").append("searchName", null),
+                CustomerQueries.byIdWithoutSearchName(id, "Ana").getQueryObject());
+    }
+
+    @Test
+    void versionZeroAlsoMatchesCustomersWrittenWithoutAVersion() {
+        final var id = new ObjectId();
+
+        assertEquals(new Document("id", id), CustomerQueries.byIdAndVersion(id, null).getQueryObject());
+        assertEquals(new Document("id", id).append("version", new Document("$in", Arrays.asList(0L, null))),
+                CustomerQueries.byIdAndVersion(id, 0L).getQueryObject());
+        assertEquals(new Document("id", id).append("version", 3L),
+                CustomerQueries.byIdAndVersion(id, 3L).getQueryObject());
+    }
+
+    @Test
+    void cursorPastACustomerWithoutCreationDateAscendingReachesTheDatedOnes() {
+        final var last = Customer.builder().id(new ObjectId()).build();
+        final var cursor = CustomerCursor.first(Sort.by(Direction.ASC, "creationDate")).next(last);
+
+        final var query = CustomerQueries.after(new CustomerSearchParams(), cursor, 10);
+
+        assertEquals(new Document("$or", List.of(
+                        new Document("creationDate", null).append("id", new Document("$gt", last.getId())),
+                        new Document("creationDate", new Document("$ne", null)))),
+                filter(query.getQueryObject()));
+    }
+
+    @Test
+    void cursorDescendingEndsWithTheCustomersWithoutCreationDate() {
+        final var last = Customer.builder().id(new ObjectId()).creationDate(LocalDateTime.of(2020, 1, 2, 3, 4)).build();
+        final var cursor = CustomerCursor.first(Sort.by(Direction.DESC, "creationDate")).next(last);
+
+        final var query = CustomerQueries.after(new CustomerSearchParams(), cursor, 10);
+
+        assertEquals(new Document("$or", List.of(
+                        new Document("creationDate", new Document("$lt", last.getCreationDate())),
+                        new Document("creationDate", last.getCreationDate())
+                                .append("id", new Document("$lt", last.getId())),
+                        new Document("creationDate", null))),
+                filter(query.getQueryObject()));
+    }
+
+    private static CustomerSearchParams search(String name, NameMatch nameMatch) {
+        return CustomerSearchParams.builder().name(name).nameMatch(nameMatch).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Document filter(Document query) {
+        return ((List<Document>) query.get("$and")).get(0);
+    }
+}
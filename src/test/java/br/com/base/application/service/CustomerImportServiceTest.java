@@ -0,0 +1,146 @@
+package br.com.base.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.configuration.properties.ImportProperties;
+import br.com.base.application.domain.Customer;
+import br.com.base.application.helper.TestMessageSource;
+import br.com.base.application.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.validation.Validation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CustomerImportServiceTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private CustomerRepository repository;
+    private CustomerImportService service;
+
+    @BeforeEach
+    void beforeEach() {
+        repository = mock(CustomerRepository.class);
+        final var properties = new ImportProperties();
+        properties.setBatchSize(2);
+        properties.setMaxLineLength(20);
+        service = new CustomerImportService(repository, Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper, new TestMessageSource("Import Test"), properties);
+        when(repository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(repository.insertUnordered(anyList())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void afterEach() {
+        service.destroy();
+    }
+
+    @Test
+    void importNdjsonWritesInBatchesAndReportsRejectedLines() throws Exception {
+        when(repository.findByNameIn(anyCollection())).thenReturn(List.of(Customer.builder().name("Taken").build()));
+
+        final var report = importCustomers(CustomerImportFormat.NDJSON, "{\"name\":\"Ana\"}\n"
+                + "{\"name\":\"Taken\"}\n"
+                + "\n"
+                + "{not json\n"
+                + "{\"name\":\" \"}\n"
+                + "{\"name\":\"Bia\"}");
+
+        assertEquals(2, report.get(0).get("index").asLong());
+        assertEquals("CONFLICT", report.get(0).get("status").asText());
+        assertProgress(report.get(1), 5, 1, 1, 0, false);
+        assertEquals(4, report.get(2).get("index").asLong());
+        assertEquals("INVALID", report.get(2).get("status").asText());
+        assertEquals(5, report.get(3).get("index").asLong());
+        assertEquals("name", report.get(3).get("errors").get(0).get("error").asText());
+        assertProgress(report.get(4), 6, 1, 1, 2, false);
+        assertProgress(report.get(5), 6, 2, 1, 2, true);
+        assertEquals(6, report.size());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).insertUnordered(inserted.capture());
+        assertEquals("Ana", inserted.getAllValues().get(0).get(0).getName());
+        assertEquals("Bia", inserted.getAllValues().get(1).get(0).getName());
+    }
+
+    @Test
+    void importCsvMapsColumnsByHeader() throws Exception {
+        final var report = importCustomers(CustomerImportFormat.CSV, "id,name\r\n"
+                + "1,\"Silva, \"\"Ana\"\"\"\r\n"
+                + "2\r\n"
+                + "3,\"open\r\n");
+
+        assertEquals(3, report.get(0).get("index").asLong());
+        assertProgress(report.get(1), 4, 1, 0, 1, false);
+        assertEquals(4, report.get(2).get("index").asLong());
+        assertProgress(report.get(3), 4, 1, 0, 2, true);
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertUnordered(inserted.capture());
+        assertEquals("Silva, \"Ana\"", inserted.getValue().get(0).getName());
+    }
+
+    @Test
+    void importReportsLinesLongerThanTheLimitWithoutWriting() throws Exception {
+        final var report = importCustomers(CustomerImportFormat.NDJSON, "{\"name\":\"" + "a".repeat(100) + "\"}\n");
+
+        assertEquals("INVALID", report.get(0).get("status").asText());
+        assertEquals("Import Test", report.get(0).get("errors").get(0).get("errorDescription").asText());
+        assertProgress(report.get(1), 1, 0, 0, 1, true);
+        verify(repository, never()).findByNameIn(anyCollection());
+    }
+
+    @Test
+    void importEmptyUploadReportsCompletion() throws Exception {
+        final var report = importCustomers(CustomerImportFormat.CSV, "");
+
+        assertEquals(1, report.size());
+        assertProgress(report.get(0), 0, 0, 0, 0, true);
+    }
+
+    private List<JsonNode> importCustomers(CustomerImportFormat format, String upload) throws IOException {
+        final var output = new ByteArrayOutputStream();
+        service.importCustomers(format, Locale.ROOT, new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), output);
+        final var report = new ArrayList<JsonNode>();
+        for (var line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            report.add(objectMapper.readTree(line));
+        }
+        return report;
+    }
+
+    private static void assertProgress(JsonNode progress, long lines, long created, long conflicts, long invalid,
+            boolean completed) {
+        assertEquals(lines, progress.get("lines").asLong());
+        assertEquals(created, progress.path("created").asLong());
+        assertEquals(conflicts, progress.path("conflicts").asLong());
+        assertEquals(invalid, progress.path("invalid").asLong());
+        if (completed) {
+            assertTrue(progress.get("completed").asBoolean());
+        } else {
+            assertFalse(progress.path("completed").asBoolean());
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package br.com.base.application.service;
 
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import br.com.base.application.cache.CustomerCache;
+import br.com.base.application.configuration.JacksonConfig;
+import br.com.base.application.configuration.properties.CustomerCacheProperties;
+import br.com.base.application.configuration.properties.ExportProperties;
 import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.BatchItemStatus;
+import br.com.base.application.domain.response.CustomerJson;
 import br.com.base.application.domain.response.CustomerResponse;
+import br.com.base.application.domain.search.CustomerCursor;
 import br.com.base.application.domain.search.CustomerSearchParams;
 import br.com.base.application.helper.MockGenerator;
 import br.com.base.application.repository.CustomerRepository;
@@ -18,8 +34,21 @@ import br.com.base.application.domain.Customer;
 import br.com.base.application.domain.payload.UpdateCustomerPayload;
 import br.com.base.application.exception.CustomerAlreadyExistsException;
 import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,14 +56,17 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -47,6 +79,14 @@ class CustomerServiceTest {
     private final ObjectId id = new ObjectId("61701da494bdec3eec35d8ff");
     @Mock
     CustomerRepository repository;
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Spy
+    CustomerCache cache = new CustomerCache(new CustomerCacheProperties());
+    @Spy
+    ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    @Spy
+    ExportProperties exportProperties = new ExportProperties();
     @InjectMocks
     private CustomerService service;
     private CreateCustomerPayload createCustomerPayload;
@@ -60,113 +100,338 @@ class CustomerServiceTest {
 
         customer = mockGenerator.generateFromJson("customer").as(Customer.class);
 
-        reset(repository);
+        cache.clear();
+        reset(repository, cache);
     }
 
     @Test
     void createWithSuccess() {
-        when(repository.existsByName(any())).thenReturn(false);
-        when(repository.save(any())).thenReturn(customer);
+        when(repository.insert(any(Customer.class))).thenReturn(customer);
 
         assertResult(service.create(createCustomerPayload));
 
-        verify(repository).existsByName(any());
-        verify(repository).save(any());
+        verify(repository).insert(any(Customer.class));
+        verify(repository, never()).save(any());
     }
 
     @Test
     void createWithCustomerAlreadyExistsException() {
-        when(repository.existsByName(any())).thenReturn(true);
+        when(repository.insert(any(Customer.class))).thenThrow(new DuplicateKeyException("E11000"));
 
         assertThrows(CustomerAlreadyExistsException.class, () -> service.create(createCustomerPayload));
 
-        verify(repository).existsByName(any());
-        verify(repository, never()).save(any());
+        verify(repository).insert(any(Customer.class));
+    }
+
+    @Test
+    void createAllWithCreatedConflictAndInvalidItems() {
+        final var existing = payload(customer.getName());
+        final var repeated = payload("Repeated");
+        final var invalid = payload(" ");
+        when(repository.findByNameIn(any())).thenReturn(List.of(customer));
+        when(repository.insertUnordered(any())).thenReturn(Set.of());
+
+        final var response = service.createAll(List.of(repeated, existing, invalid, repeated));
+
+        assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CONFLICT, BatchItemStatus.INVALID, BatchItemStatus.CONFLICT),
+                statuses(response.getItems()));
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getConflicts());
+        assertEquals(1, response.getInvalid());
+        assertEquals("Repeated", response.getItems().get(0).getCustomer().getName());
+        assertEquals("name", response.getItems().get(2).getErrors().iterator().next().getError());
+    }
+
+    @Test
+    void createAllWithDuplicateKeyRejectedByBulkWrite() {
+        when(repository.findByNameIn(any())).thenReturn(List.of());
+        when(repository.insertUnordered(any())).thenReturn(Set.of(1));
+
+        final var response = service.createAll(List.of(payload("First"), payload("Second")));
+
+        assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CONFLICT), statuses(response.getItems()));
+        verify(repository).insertUnordered(any());
     }
 
     @Test
     void updateWithSuccess() {
-        when(repository.findById(id)).thenReturn(Optional.of(customer));
-        when(repository.save(any())).thenReturn(customer);
+        when(repository.updateName(id, updateCustomerPayload.getName(), null)).thenReturn(Optional.of(customer));
+
+        assertResult(service.update(id, null, updateCustomerPayload));
+        verify(repository).updateName(id, updateCustomerPayload.getName(), null);
+        verify(repository, never()).findOneById(id);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void updateEvictsCachedCustomer() {
+        when(repository.findOneById(id)).thenReturn(Optional.of(customer));
+        when(repository.updateName(any(), any(), any())).thenReturn(Optional.of(customer));
+        service.findJsonById(id);
+
+        service.update(id, null, updateCustomerPayload);
+        service.findJsonById(id);
+
+        verify(cache).evict(id);
+        verify(repository, times(2)).findOneById(id);
+    }
 
-        assertResult(service.update(id, updateCustomerPayload));
-        verify(repository).findById(id);
-        verify(repository).save(any());
+    @Test
+    void updateWithCustomerAlreadyExistsException() {
+        when(repository.updateName(any(), any(), any())).thenThrow(new DuplicateKeyException("E11000"));
+
+        assertThrows(CustomerAlreadyExistsException.class, () -> service.update(id, null, updateCustomerPayload));
+
+        verify(cache).evict(id);
     }
 
     @Test
     void updateWithCustomerNotFoundException() {
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.updateName(any(), any(), any())).thenReturn(Optional.empty());
 
-        assertThrows(CustomerNotFoundException.class, () -> service.update(id, updateCustomerPayload));
+        assertThrows(CustomerNotFoundException.class, () -> service.update(id, null, updateCustomerPayload));
 
-        verify(repository).findById(id);
+        verify(repository).updateName(id, updateCustomerPayload.getName(), null);
         verify(repository, never()).save(any());
     }
 
     @Test
-    void findByIdWithSuccess() {
-        when(repository.findById(id)).thenReturn(Optional.of(customer));
+    void updateWithStaleVersionThrowsCustomerVersionMismatchException() {
+        when(repository.updateName(id, updateCustomerPayload.getName(), 2L)).thenReturn(Optional.empty());
+        when(repository.existsById(id)).thenReturn(true);
+
+        assertThrows(CustomerVersionMismatchException.class, () -> service.update(id, 2L, updateCustomerPayload));
+    }
+
+    @Test
+    void findByIdWithSuccess() throws Exception {
+        when(repository.findOneById(id)).thenReturn(Optional.of(customer));
+
+        assertResult(service.findJsonById(id));
+
+        verify(repository).findOneById(id);
+    }
+
+    @Test
+    void findByIdServedFromCache() throws Exception {
+        when(repository.findOneById(id)).thenReturn(Optional.of(customer));
+        final var hits = cache.stats().hitCount();
 
-        assertResult(service.findById(id));
+        assertResult(service.findJsonById(id));
+        assertResult(service.findJsonById(id));
 
-        verify(repository).findById(id);
+        verify(repository).findOneById(id);
+        assertEquals(hits + 1, cache.stats().hitCount());
+    }
+
+    @Test
+    void findJsonByIdSerializesOnceAsTheMapperWould() throws Exception {
+        when(repository.findOneById(id)).thenReturn(Optional.of(customer));
+
+        final var json = service.findJsonById(id);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(new CustomerResponse(customer)), json.getJson());
+        assertSame(json.getJson(), service.findJsonById(id).getJson());
+        assertEquals(new CustomerResponse(customer).getETag(), json.getETag());
     }
 
     @Test
     void FindByIdWithCustomerNotFoundException() {
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.findOneById(id)).thenReturn(Optional.empty());
 
-        assertThrows(CustomerNotFoundException.class, () -> service.findById(id));
+        assertThrows(CustomerNotFoundException.class, () -> service.findJsonById(id));
 
-        verify(repository).findById(id);
+        verify(repository).findOneById(id);
     }
 
     @Test
     void deleteWithSuccess() {
-        when(repository.findById(id)).thenReturn(Optional.of(customer));
-
-        final var captor = ArgumentCaptor.forClass(Customer.class);
+        when(repository.deleteOneById(id)).thenReturn(true);
 
         service.delete(id);
 
-        verify(repository).findById(id);
-        verify(repository).delete(captor.capture());
+        verify(repository).deleteOneById(id);
+        verify(repository, never()).findOneById(id);
+    }
+
+    @Test
+    void deleteEvictsCachedCustomer() {
+        when(repository.findOneById(id)).thenReturn(Optional.of(customer));
+        when(repository.deleteOneById(id)).thenReturn(true);
+        service.findJsonById(id);
 
-        assertEquals(captor.getValue().getId(), id);
+        service.delete(id);
+        when(repository.findOneById(id)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> service.findJsonById(id));
+        verify(cache).evict(id);
     }
 
     @Test
     void deleteWithCustomerNotFoundException() {
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.deleteOneById(id)).thenReturn(false);
 
         assertThrows(CustomerNotFoundException.class, () -> service.delete(id));
 
-        verify(repository).findById(id);
-        verify(repository, never()).save(any());
+        verify(repository).deleteOneById(id);
+        verify(cache).evict(id);
     }
 
     @Test
-    void findAllWithSuccess() {
+    void exportWritesOneJsonLinePerCustomerAndClosesTheCursor() throws Exception {
+        final var other = Customer.builder().id(new ObjectId()).name("Other").build();
+        final var closed = new AtomicBoolean();
+        when(repository.streamAll(any(CustomerSearchParams.class), eq(1000)))
+                .thenReturn(Stream.of(customer, other).onClose(() -> closed.set(true)));
+        final var output = new ByteArrayOutputStream();
+
+        service.export(new CustomerSearchParams(), output);
+
+        final var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(customer.getId().toHexString(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("Other", objectMapper.readTree(lines[1]).get("name").asText());
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void findAllWithSuccess() throws Exception {
         Pageable page = PageRequest.of(0, 1);
         CustomerSearchParams params = new CustomerSearchParams();
         params.setName(customer.getName());
+        final var document = new RawBsonDocument(new Document("_id", id).append("name", customer.getName()),
+                new DocumentCodec());
 
-        Page<Customer> customerPage = new PageImpl<>(List.of(customer), page,
-                Integer.MAX_VALUE);
+        Page<RawBsonDocument> documentPage = new PageImpl<>(List.of(document), page, Integer.MAX_VALUE);
 
-        when(repository.findAll(any(), any(Pageable.class))).thenReturn(customerPage);
+        when(repository.findRawPage(params, page)).thenReturn(documentPage);
         var response = service.findAll(page, params);
 
         assertNotNull(response);
-        assertResult(response.getContent().get(0));
         assertEquals(response.getContent().size(), page.getPageSize());
+        assertEquals(objectMapper.valueToTree(new CustomerResponse(customer)),
+                objectMapper.readTree(objectMapper.writeValueAsString(response.getContent().get(0))));
+    }
+
+    @Test
+    void findAllLeavesEmptyNamesOutLikeTheMappedResponse() throws Exception {
+        final var unnamed = Customer.builder().id(id).name("").build();
+        final var document = new RawBsonDocument(new Document("_id", id).append("name", ""), new DocumentCodec());
+        when(repository.findRawPage(any(), any())).thenReturn(new PageImpl<>(List.of(document)));
+
+        var response = service.findAll(PageRequest.of(0, 1), new CustomerSearchParams());
+
+        assertEquals(objectMapper.valueToTree(new CustomerResponse(unnamed)),
+                objectMapper.readTree(objectMapper.writeValueAsString(response.getContent().get(0))));
+    }
+
+    @Test
+    void findSliceWithSuccess() {
+        Pageable page = PageRequest.of(0, 1);
+        when(repository.findSlice(any(), any())).thenReturn(new SliceImpl<>(List.of(customer), page, true));
+
+        var response = service.findSlice(page, new CustomerSearchParams());
+
+        assertResult(response.getContent().get(0));
+        assertEquals(true, response.hasNext());
+        verify(repository, never()).estimateCount(any());
+        verify(repository, never()).findRawPage(any(), any());
+    }
+
+    @Test
+    void findAllEstimatedWithNextPageUsesEstimate() {
+        Pageable page = PageRequest.of(2, 1);
+        when(repository.findSlice(any(), any())).thenReturn(new SliceImpl<>(List.of(customer), page, true));
+        when(repository.estimateCount(any())).thenReturn(1000L);
+
+        var response = service.findAllEstimated(page, new CustomerSearchParams());
+
+        assertResult(response.getContent().get(0));
+        assertEquals(1000L, response.getTotalElements());
+    }
+
+    @Test
+    void findAllEstimatedWithStaleEstimateKeepsNextPage() {
+        Pageable page = PageRequest.of(2, 1);
+        when(repository.findSlice(any(), any())).thenReturn(new SliceImpl<>(List.of(customer), page, true));
+        when(repository.estimateCount(any())).thenReturn(1L);
+
+        var response = service.findAllEstimated(page, new CustomerSearchParams());
+
+        assertEquals(4L, response.getTotalElements());
+        assertEquals(true, response.hasNext());
+    }
+
+    @Test
+    void findAllEstimatedWithLastPageSkipsEstimate() {
+        Pageable page = PageRequest.of(3, 2);
+        when(repository.findSlice(any(), any())).thenReturn(new SliceImpl<>(List.of(customer), page, false));
+
+        var response = service.findAllEstimated(page, new CustomerSearchParams());
+
+        assertEquals(7L, response.getTotalElements());
+        verify(repository, never()).estimateCount(any());
+    }
+
+    @Test
+    void findAllByCursorWithNextPage() {
+        final var cursor = CustomerCursor.first(Sort.by(Sort.Direction.ASC, "name"));
+        final var last = mockGenerator.generateFromJson("customer").andSet("id", new ObjectId().toHexString()).as(Customer.class);
+        when(repository.findAfter(any(), any(), anyInt())).thenReturn(List.of(customer, last));
+
+        var response = service.findAllByCursor(cursor, 1, new CustomerSearchParams());
+
+        assertEquals(1, response.getContent().size());
+        assertResult(response.getContent().get(0));
+        final var next = CustomerCursor.decode(response.getNext());
+        assertEquals(id, next.getLastId());
+        assertEquals(customer.getName(), next.value());
+        verify(repository).findAfter(any(), any(), eq(2));
+    }
+
+    @Test
+    void findAllByCursorPastACustomerWithoutCreationDate() {
+        final var cursor = CustomerCursor.first(Sort.by(Sort.Direction.DESC, "creationDate"));
+        final var last = mockGenerator.generateFromJson("customer").andSet("id", new ObjectId().toHexString()).as(Customer.class);
+        customer.setCreationDate(null);
+        when(repository.findAfter(any(), any(), anyInt())).thenReturn(List.of(customer, last));
+
+        var response = service.findAllByCursor(cursor, 1, new CustomerSearchParams());
+
+        final var next = CustomerCursor.decode(response.getNext());
+        assertEquals(id, next.getLastId());
+        assertNull(next.value());
+    }
+
+    @Test
+    void findAllByCursorWithLastPage() {
+        when(repository.findAfter(any(), any(), anyInt())).thenReturn(List.of(customer));
+
+        var response = service.findAllByCursor(CustomerCursor.first(Sort.unsorted()), 1, new CustomerSearchParams());
+
+        assertEquals(1, response.getContent().size());
+        assertNull(response.getNext());
     }
 
+    private CreateCustomerPayload payload(String name) {
+        return mockGenerator.generateFromJson("createPayload").andSet("name", name).as(CreateCustomerPayload.class);
+    }
+
+    private List<BatchItemStatus> statuses(List<BatchItemResponse> items) {
+        return items.stream().map(BatchItemResponse::getStatus).collect(toList());
+    }
 
     public void assertResult(CustomerResponse result) {
         assertNotNull(result);
         assertEquals(result.getId(), id.toHexString());
         assertEquals(result.getName(), customer.getName());
     }
+
+    public void assertResult(CustomerJson result) throws IOException {
+        assertNotNull(result);
+        final var json = objectMapper.readTree(result.getJson());
+        assertEquals(json.get("id").asText(), id.toHexString());
+        assertEquals(json.get("name").asText(), customer.getName());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package br.com.base.application.service;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.base.application.domain.Customer;
+import br.com.base.application.domain.payload.CreateCustomerPayload;
+import br.com.base.application.domain.payload.UpdateCustomerPayload;
+import br.com.base.application.domain.response.BatchItemResponse;
+import br.com.base.application.domain.response.BatchItemStatus;
+import br.com.base.application.domain.search.CustomerSearchParams;
+import br.com.base.application.exception.CustomerAlreadyExistsException;
+import br.com.base.application.exception.CustomerNotFoundException;
+import br.com.base.application.exception.CustomerVersionMismatchException;
+import br.com.base.application.helper.MockGenerator;
+import br.com.base.application.repository.ReactiveCustomerRepository;
+import java.util.List;
+import java.util.Set;
+import javax.validation.Validation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveCustomerServiceTest {
+
+    @RegisterExtension
+    static MockGenerator mockGenerator = MockGenerator.instance();
+    private final ObjectId id = new ObjectId("61701da494bdec3eec35d8ff");
+    private final ReactiveCustomerRepository repository = Mockito.mock(ReactiveCustomerRepository.class);
+    private final ReactiveCustomerService service = new ReactiveCustomerService(repository,
+            Validation.buildDefaultValidatorFactory().getValidator());
+    private CreateCustomerPayload createCustomerPayload;
+    private UpdateCustomerPayload updateCustomerPayload;
+    private Customer customer;
+
+    @BeforeEach
+    void beforeEach() {
+        createCustomerPayload = mockGenerator.generateFromJson("createPayload").as(CreateCustomerPayload.class);
+        updateCustomerPayload = mockGenerator.generateFromJson("updatePayload").as(UpdateCustomerPayload.class);
+        customer = mockGenerator.generateFromJson("customer").as(Customer.class);
+        reset(repository);
+    }
+
+    @Test
+    void createWithSuccess() {
+        when(repository.insert(any(Customer.class))).thenReturn(Mono.just(customer));
+
+        StepVerifier.create(service.create(createCustomerPayload))
+                .assertNext(response -> assertEquals(customer.getId().toHexString(), response.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createWithDuplicateNameThrowsCustomerAlreadyExistsException() {
+        when(repository.insert(any(Customer.class))).thenReturn(Mono.error(new DuplicateKeyException("name")));
+
+        StepVerifier.create(service.create(createCustomerPayload))
+                .verifyError(CustomerAlreadyExistsException.class);
+    }
+
+    @Test
+    void createAllMarksExistingAndRejectedNamesAsConflicts() {
+        final var other = new CreateCustomerPayload();
+        other.setName("Other");
+        final var invalid = new CreateCustomerPayload();
+        when(repository.findByNameIn(any())).thenReturn(Flux.just(customer));
+        when(repository.insertUnordered(anyList())).thenReturn(Mono.just(Set.of(0)));
+
+        StepVerifier.create(service.createAll(List.of(createCustomerPayload, other, invalid)))
+                .assertNext(response -> assertEquals(List.of(BatchItemStatus.CONFLICT, BatchItemStatus.CONFLICT,
+                        BatchItemStatus.INVALID), response.getItems().stream().map(BatchItemResponse::getStatus)
+                        .collect(toList())))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateWithUnknownIdThrowsCustomerNotFoundException() {
+        when(repository.updateName(id, updateCustomerPayload.getName(), null)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.update(id, null, updateCustomerPayload))
+                .verifyError(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void updateWithDuplicateNameThrowsCustomerAlreadyExistsException() {
+        when(repository.updateName(id, updateCustomerPayload.getName(), null))
+                .thenReturn(Mono.error(new DuplicateKeyException("name")));
+
+        StepVerifier.create(service.update(id, null, updateCustomerPayload))
+                .verifyError(CustomerAlreadyExistsException.class);
+    }
+
+    @Test
+    void updateWithStaleVersionThrowsCustomerVersionMismatchException() {
+        when(repository.updateName(id, updateCustomerPayload.getName(), 2L)).thenReturn(Mono.empty());
+        when(repository.existsById(id)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.update(id, 2L, updateCustomerPayload))
+                .verifyError(CustomerVersionMismatchException.class);
+    }
+
+    @Test
+    void findByIdWithUnknownIdThrowsCustomerNotFoundException() {
+        when(repository.findOneById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.findById(id))
+                .verifyError(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void deleteWithUnknownIdThrowsCustomerNotFoundException() {
+        when(repository.deleteOneById(id)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(service.delete(id))
+                .verifyError(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void findAllEstimatedWithLastPageSkipsEstimate() {
+        final var page = PageRequest.of(0, 10);
+        when(repository.findSlice(any(), any())).thenReturn(Mono.just(new SliceImpl<>(List.of(customer), page, false)));
+
+        StepVerifier.create(service.findAllEstimated(page, new CustomerSearchParams()))
+                .assertNext(response -> assertEquals(1, response.getTotalElements()))
+                .verifyComplete();
+        verify(repository, never()).estimateCount(any());
+    }
+
+    @Test
+    void findAllEstimatedWithNextPageUsesEstimate() {
+        final var page = PageRequest.of(0, 1);
+        when(repository.findSlice(any(), any())).thenReturn(Mono.just(new SliceImpl<>(List.of(customer), page, true)));
+        when(repository.estimateCount(any())).thenReturn(Mono.just(500L));
+
+        StepVerifier.create(service.findAllEstimated(page, new CustomerSearchParams()))
+                .assertNext(response -> assertEquals(500, response.getTotalElements()))
+                .verifyComplete();
+    }
+}